@@ -0,0 +1,237 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable index over the choices of a
+ * {@link PatternMatchingCommandElement}, answering the anchored,
+ * case-insensitive pattern lookups of the element.
+ *
+ * <p>The choices are kept sorted by their case folded form, so that all
+ * choices starting with a given prefix form a contiguous range. Plain
+ * inputs without any pattern characters are answered from that range
+ * alone, patterns are only matched against the choices starting with the
+ * literal prefix of the pattern. Matches are always returned in the order
+ * of the original choices.</p>
+ */
+final class ChoiceIndex {
+
+    static final ChoiceIndex EMPTY = new ChoiceIndex(ImmutableList.of());
+
+    private static final String PATTERN_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final Cache<String, Pattern> patterns = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .build();
+
+    // The choices as they were provided, possibly containing null
+    private final List<String> source;
+    // The non-null choices in their original order
+    private final ImmutableList<String> choices;
+    // The folded choices in sorted order, and their positions in choices
+    private final String[] keys;
+    private final int[] ordinals;
+
+    private ChoiceIndex(List<String> source) {
+        this.source = source;
+        this.choices = ImmutableList.copyOf(Iterables.filter(source, choice -> choice != null));
+
+        final Integer[] order = new Integer[this.choices.size()];
+        final String[] folded = new String[order.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            folded[i] = fold(this.choices.get(i));
+        }
+        // Stable, so equal keys stay in their original order
+        Arrays.sort(order, (a, b) -> folded[a].compareTo(folded[b]));
+
+        this.keys = new String[order.length];
+        this.ordinals = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            this.keys[i] = folded[order[i]];
+            this.ordinals[i] = order[i];
+        }
+    }
+
+    /**
+     * Creates an index over the given choices. Null choices are ignored.
+     *
+     * @param choices The choices to index
+     * @return The index
+     */
+    static ChoiceIndex of(Iterable<String> choices) {
+        return new ChoiceIndex(choices instanceof ImmutableList ? (ImmutableList<String>) choices : Lists.newArrayList(choices));
+    }
+
+    /**
+     * Gets whether this index was created from choices equal to the given
+     * choices, and can be reused for them.
+     *
+     * @param choices The choices to check
+     * @return Whether this index covers the given choices
+     */
+    boolean isIndexOf(Iterable<String> choices) {
+        return this.source == choices || Iterables.elementsEqual(this.source, choices);
+    }
+
+    /**
+     * Gets the indexed choices in their original order.
+     *
+     * @return The choices
+     */
+    ImmutableList<String> getChoices() {
+        return this.choices;
+    }
+
+    /**
+     * Gets the first choice equal to the given input, ignoring case.
+     *
+     * @param input The input to look up
+     * @return The choice, or null if no choice is equal to the input
+     */
+    @Nullable
+    String get(String input) {
+        final String key = fold(input);
+        final int index = lowerBound(key);
+        return index < this.keys.length && this.keys[index].equals(key) ? this.choices.get(this.ordinals[index]) : null;
+    }
+
+    /**
+     * Gets all choices the given pattern finds a match in, when anchored to
+     * the start of the choice and matched case-insensitively.
+     *
+     * @param input The pattern to match
+     * @return The matching choices, in their original order
+     * @throws java.util.regex.PatternSyntaxException If the input is not a
+     *     valid pattern
+     */
+    List<String> match(String input) {
+        final String anchored = input.startsWith("^") ? input : "^" + input;
+        final String prefix = literalPrefix(anchored);
+        final int start = lowerBound(fold(prefix));
+        final int end = upperBound(start, fold(prefix));
+        if (prefix.length() == anchored.length() - 1) {
+            // No pattern characters, the prefix range is the result
+            return select(start, end, null);
+        }
+        Pattern pattern = patterns.getIfPresent(anchored);
+        if (pattern == null) {
+            pattern = Pattern.compile(anchored, Pattern.CASE_INSENSITIVE);
+            patterns.put(anchored, pattern);
+        }
+        return select(start, end, pattern.matcher(""));
+    }
+
+    private List<String> select(int start, int end, @Nullable Matcher matcher) {
+        final int[] selected = new int[end - start];
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (matcher == null || matcher.reset(this.choices.get(this.ordinals[i])).find()) {
+                selected[count++] = this.ordinals[i];
+            }
+        }
+        Arrays.sort(selected, 0, count);
+        final List<String> ret = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ret.add(this.choices.get(selected[i]));
+        }
+        return ret;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(int start, String prefix) {
+        int end = start;
+        while (end < this.keys.length && this.keys[end].startsWith(prefix)) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Gets the literal text every match of the given anchored pattern must
+     * start with, without the leading anchor.
+     *
+     * @param anchored The pattern, starting with {@code ^}
+     * @return The literal prefix
+     */
+    private static String literalPrefix(String anchored) {
+        if (anchored.indexOf('|') != -1) {
+            // Alternatives are not anchored to the start
+            return "";
+        }
+        int end = 1;
+        while (end < anchored.length() && PATTERN_CHARACTERS.indexOf(anchored.charAt(end)) == -1) {
+            end++;
+        }
+        if (end < anchored.length() && end > 1 && "?*{".indexOf(anchored.charAt(end)) != -1) {
+            // The last literal character is optional
+            end--;
+        }
+        return anchored.substring(1, end);
+    }
+
+    /**
+     * Folds the case of the given string the way
+     * {@link String#equalsIgnoreCase(String)} compares characters, keeping
+     * its length.
+     *
+     * @param string The string to fold
+     * @return The folded string
+     */
+    private static String fold(String string) {
+        final char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+}
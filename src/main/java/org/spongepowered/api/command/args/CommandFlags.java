@@ -102,10 +102,10 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
     }
 
     private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        if (longFlag.contains("=")) {
-            final String[] flagSplit = longFlag.split("=", 2);
-            longFlag = flagSplit[0];
-            String value = flagSplit[1];
+        final int split = longFlag.indexOf('=');
+        if (split != -1) {
+            String value = longFlag.substring(split + 1);
+            longFlag = longFlag.substring(0, split);
             CommandElement element = this.longFlags.get(longFlag.toLowerCase());
             if (element == null) {
                 switch (this.unknownLongFlagBehavior) {
@@ -246,10 +246,10 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
 
     @Nullable
     private List<String> tabCompleteLongFlag(String longFlag, CommandSource src, CommandArgs args, CommandContext context) {
-        if (longFlag.contains("=")) {
-            final String[] flagSplit = longFlag.split("=", 2);
-            longFlag = flagSplit[0];
-            String value = flagSplit[1];
+        final int split = longFlag.indexOf('=');
+        if (split != -1) {
+            String value = longFlag.substring(split + 1);
+            longFlag = longFlag.substring(0, split);
             CommandElement element = this.longFlags.get(longFlag.toLowerCase());
             if (element == null) { // Whole flag is specified, we'll go to value
                 context.putArg(longFlag, value);
@@ -768,17 +768,19 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
 
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
+        private final ImmutableList<String> choices;
 
         private EnumValueElement(Text key, Class<T> type) {
             super(key);
             this.type = type;
+            this.choices = Arrays.asList(type.getEnumConstants()).stream()
+                .map(Enum::name)
+                .collect(GuavaCollectors.toImmutableList());
         }
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Arrays.asList(this.type.getEnumConstants()).stream()
-                .map(input -> input == null ? null : input.name())
-                .collect(Collectors.toList());
+            return this.choices;
         }
 
         @Override
@@ -33,7 +33,7 @@
 
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import javax.annotation.Nullable;
 
@@ -42,6 +42,7 @@
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private volatile ChoiceIndex choiceIndex = ChoiceIndex.EMPTY;
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -51,42 +52,51 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
-        for (String el : filteredChoices) { // Match a single value
-            if (el.equalsIgnoreCase(unformattedPattern)) {
-                return getValue(el);
-            }
+        final ChoiceIndex index = getChoiceIndex(source);
+        final String choice = index.get(unformattedPattern);
+        if (choice != null) { // Match a single value
+            return getValue(choice);
         }
-        Iterable<Object> ret = Iterables.transform(filteredChoices, this::getValue);
+        List<String> filteredChoices = index.match(unformattedPattern);
 
-        if (!ret.iterator().hasNext()) {
+        if (filteredChoices.isEmpty()) {
             throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
                                                                                                             ? nullKeyArg : getKey()));
         }
-        return ret;
+        return Iterables.transform(filteredChoices, this::getValue);
     }
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
+        final ChoiceIndex index = getChoiceIndex(src);
         final Optional<String> nextArg = args.nextIfPresent();
-        if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+        if (!nextArg.isPresent()) {
+            return index.getChoices();
+        }
+        try {
+            return ImmutableList.copyOf(index.match(nextArg.get()));
+        } catch (PatternSyntaxException e) {
+            return ImmutableList.of();
         }
-        return ImmutableList.copyOf(choices);
     }
 
-    private Pattern getFormattedPattern(String input) {
-        if (!input.startsWith("^")) { // Anchor matches to the beginning -- this lets us use find()
-            input = "^" + input;
+    /**
+     * Gets the index over the current choices for this command source. The
+     * previous index is reused as long as the choices are unchanged.
+     */
+    private ChoiceIndex getChoiceIndex(CommandSource source) {
+        final Iterable<String> choices = getChoices(source);
+        ChoiceIndex index = this.choiceIndex;
+        if (!index.isIndexOf(choices)) {
+            this.choiceIndex = index = ChoiceIndex.of(choices);
         }
-        return Pattern.compile(input, Pattern.CASE_INSENSITIVE);
-
+        return index;
     }
 
     /**
-     * Gets the available choices for this command source.
+     * Gets the available choices for this command source. Returning the same
+     * {@link ImmutableList} for unchanged choices lets the element skip
+     * comparing them to the choices it indexed before.
      *
      * @param source The source requesting choices
      * @return the possible choices
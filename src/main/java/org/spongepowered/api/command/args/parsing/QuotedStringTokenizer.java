@@ -31,6 +31,8 @@
 import java.util.Collections;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 /**
  * Parser for converting a quoted string into a list of arguments.
  *
@@ -45,9 +47,9 @@
  * ARGS := ((UNQUOTED_ARG | QUOTED_ARG) WHITESPACE+)+
  */
 class QuotedStringTokenizer implements InputTokenizer {
-    private static final int CHAR_BACKSLASH = '\\';
-    private static final int CHAR_SINGLE_QUOTE = '\'';
-    private static final int CHAR_DOUBLE_QUOTE = '"';
+    private static final char CHAR_BACKSLASH = '\\';
+    private static final char CHAR_SINGLE_QUOTE = '\'';
+    private static final char CHAR_DOUBLE_QUOTE = '"';
     private final boolean handleQuotedStrings;
     private final boolean forceLenient;
 
@@ -62,83 +64,102 @@ public List<SingleArg> tokenize(String arguments, boolean lenient) throws Argume
             return Collections.emptyList();
         }
 
-        final TokenizerState state = new TokenizerState(arguments, lenient);
-        List<SingleArg> returnedArgs = new ArrayList<>(arguments.length() / 8);
-        skipWhiteSpace(state);
-        while (state.hasMore()) {
-            int startIdx = state.getIndex() + 1;
-            String arg = nextArg(state);
-            returnedArgs.add(new SingleArg(arg, startIdx, state.getIndex()));
-            skipWhiteSpace(state);
+        List<SingleArg> returnedArgs = new ArrayList<>(arguments.length() / 8 + 1);
+        int index = skipWhiteSpace(arguments, 0);
+        while (index < arguments.length()) {
+            char c = arguments.charAt(index);
+            if (this.handleQuotedStrings && (c == CHAR_DOUBLE_QUOTE || c == CHAR_SINGLE_QUOTE)) {
+                index = parseQuotedString(arguments, index, lenient || this.forceLenient, returnedArgs);
+            } else {
+                index = parseUnquotedString(arguments, index, returnedArgs);
+            }
+            index = skipWhiteSpace(arguments, index);
         }
         return returnedArgs;
     }
 
     // Parsing methods
+    //
+    // Each method scans the input by index and returns the index following
+    // the last consumed character. Arguments without escapes are taken as a
+    // single substring of the input, only escaped arguments are copied
+    // through a builder.
 
-    private void skipWhiteSpace(TokenizerState state) throws ArgumentParseException {
-        if (!state.hasMore()) {
-            return;
-        }
-        while (Character.isWhitespace(state.peek())) {
-            state.next();
-        }
-    }
-
-    private String nextArg(TokenizerState state) throws ArgumentParseException {
-        StringBuilder argBuilder = new StringBuilder();
-        int codePoint = state.peek();
-        if (this.handleQuotedStrings && (codePoint == CHAR_DOUBLE_QUOTE || codePoint == CHAR_SINGLE_QUOTE)) {
-            // quoted string
-            parseQuotedString(state, codePoint, argBuilder);
-        } else {
-            parseUnquotedString(state, argBuilder);
+    private static int skipWhiteSpace(String buffer, int index) {
+        while (index < buffer.length() && Character.isWhitespace(buffer.charAt(index))) {
+            index++;
         }
-        return argBuilder.toString();
+        return index;
     }
 
-    private void parseQuotedString(TokenizerState state, int startQuotation, StringBuilder builder) throws ArgumentParseException {
-        // Consume the start quotation character
-        int nextCodePoint = state.next();
-        if (nextCodePoint != startQuotation) {
-            throw state.createException(Text.of(String.format("Actual next character '%c' did not match expected quotation character '%c'",
-                    nextCodePoint, startQuotation)));
-        }
-
+    private static int parseQuotedString(String buffer, int startIdx, boolean lenient, List<SingleArg> args) throws ArgumentParseException {
+        // Skip the start quotation character
+        final char quotation = buffer.charAt(startIdx);
+        StringBuilder builder = null;
+        int segmentStart = startIdx + 1;
+        int index = segmentStart;
         while (true) {
-            if (!state.hasMore()) {
-                if (state.isLenient() || this.forceLenient) {
-                    return;
-                } else {
-                    throw state.createException(Text.of("Unterminated quoted string found"));
+            if (index >= buffer.length()) {
+                if (lenient) {
+                    args.add(new SingleArg(value(buffer, builder, segmentStart, index), startIdx, index - 1));
+                    return index;
                 }
+                throw new ArgumentParseException(Text.of("Unterminated quoted string found"), buffer, buffer.length() - 1);
             }
-            nextCodePoint = state.next();
-            if (nextCodePoint == startQuotation) {
-                return;
-            } else if (nextCodePoint == CHAR_BACKSLASH) {
-                parseEscape(state, builder);
+            final char c = buffer.charAt(index);
+            if (c == quotation) {
+                args.add(new SingleArg(value(buffer, builder, segmentStart, index), startIdx, index));
+                return index + 1;
+            } else if (c == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(buffer, segmentStart, index);
+                index = segmentStart = parseEscape(buffer, index, builder);
             } else {
-                builder.appendCodePoint(nextCodePoint);
+                index++;
             }
         }
     }
 
-    private void parseUnquotedString(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
-        while (state.hasMore()) {
-            int nextCodePoint = state.next();
-            if (Character.isWhitespace(nextCodePoint)) {
-                return;
-            } else if (nextCodePoint == CHAR_BACKSLASH) {
-                parseEscape(state, builder);
+    private static int parseUnquotedString(String buffer, int startIdx, List<SingleArg> args) throws ArgumentParseException {
+        StringBuilder builder = null;
+        int segmentStart = startIdx;
+        int index = startIdx;
+        while (index < buffer.length()) {
+            final char c = buffer.charAt(index);
+            if (Character.isWhitespace(c)) {
+                // The terminating whitespace is consumed with the argument
+                args.add(new SingleArg(value(buffer, builder, segmentStart, index), startIdx, index));
+                return index + 1;
+            } else if (c == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(buffer, segmentStart, index);
+                index = segmentStart = parseEscape(buffer, index, builder);
             } else {
-                builder.appendCodePoint(nextCodePoint);
+                index++;
             }
         }
+        args.add(new SingleArg(value(buffer, builder, segmentStart, index), startIdx, index - 1));
+        return index;
     }
 
-    private void parseEscape(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
-        builder.appendCodePoint(state.next()); // TODO: Unicode character escapes (\u00A7 type thing)?
+    private static int parseEscape(String buffer, int backslashIdx, StringBuilder builder) throws ArgumentParseException {
+        if (backslashIdx + 1 >= buffer.length()) {
+            throw new ArgumentParseException(Text.of("Buffer overrun while parsing args"), buffer, backslashIdx);
+        }
+        final int codePoint = buffer.codePointAt(backslashIdx + 1); // TODO: Unicode character escapes (\u00A7 type thing)?
+        builder.appendCodePoint(codePoint);
+        return backslashIdx + 1 + Character.charCount(codePoint);
+    }
+
+    private static String value(String buffer, @Nullable StringBuilder builder, int segmentStart, int end) {
+        if (builder == null) {
+            return buffer.substring(segmentStart, end);
+        }
+        return builder.append(buffer, segmentStart, end).toString();
     }
 
 }
@@ -37,12 +37,16 @@ private SpaceSplitInputTokenizer() {}
     @Override
     public List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException {
         List<SingleArg> ret = new ArrayList<>();
+        if (arguments.isEmpty()) {
+            return ret;
+        }
         int lastIndex = 0;
         int spaceIndex;
-        while ((spaceIndex = arguments.indexOf(" ")) != -1) {
-            ret.add(new SingleArg((arguments = arguments.substring(0, spaceIndex)), lastIndex, lastIndex + spaceIndex));
-            lastIndex += spaceIndex + 1;
+        while ((spaceIndex = arguments.indexOf(' ', lastIndex)) != -1) {
+            ret.add(new SingleArg(arguments.substring(lastIndex, spaceIndex), lastIndex, spaceIndex));
+            lastIndex = spaceIndex + 1;
         }
+        ret.add(new SingleArg(arguments.substring(lastIndex), lastIndex, arguments.length() - 1));
         return ret;
     }
 }
@@ -0,0 +1,275 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multimap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable, case-insensitive radix trie from command aliases to the
+ * values registered for them.
+ *
+ * <p>Modifications return a new trie which shares all unchanged nodes with
+ * this one, so a trie can be published to other threads and read without
+ * locking.</p>
+ *
+ * @param <V> The type of the values
+ */
+final class AliasTrie<V> {
+
+    @SuppressWarnings("unchecked")
+    private static final AliasTrie<?> EMPTY = new AliasTrie<>(new Node<>("", ImmutableList.of(), Node.NO_CHILDREN), 0);
+
+    /**
+     * Returns an empty trie.
+     *
+     * @param <V> The type of the values
+     * @return The empty trie
+     */
+    @SuppressWarnings("unchecked")
+    static <V> AliasTrie<V> empty() {
+        return (AliasTrie<V>) EMPTY;
+    }
+
+    /**
+     * Creates a trie with all entries of the given multimap.
+     *
+     * @param entries The aliases mapped to their values
+     * @param <V> The type of the values
+     * @return The new trie
+     */
+    static <V> AliasTrie<V> of(Multimap<String, ? extends V> entries) {
+        AliasTrie<V> trie = empty();
+        for (Map.Entry<String, ? extends Collection<? extends V>> entry : entries.asMap().entrySet()) {
+            for (V value : entry.getValue()) {
+                trie = trie.with(entry.getKey(), value);
+            }
+        }
+        return trie;
+    }
+
+    private final Node<V> root;
+    private final int size;
+
+    private AliasTrie(Node<V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of aliases with at least one value in this trie.
+     *
+     * @return The number of aliases
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the values registered for the given alias.
+     *
+     * @param alias The alias to look up
+     * @return The values in registration order, or an empty list if the
+     *     alias is unknown
+     */
+    List<V> get(String alias) {
+        String key = alias.toLowerCase();
+        Node<V> node = this.root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node<V> child = node.getChild(key.charAt(pos));
+            if (child == null || !key.startsWith(child.label, pos)) {
+                return ImmutableList.of();
+            }
+            node = child;
+            pos += child.label.length();
+        }
+        return node.values;
+    }
+
+    /**
+     * Returns a trie with the given value added to the values of the alias.
+     *
+     * @param alias The alias to add the value for
+     * @param value The value to add
+     * @return The new trie
+     */
+    AliasTrie<V> with(String alias, V value) {
+        String key = alias.toLowerCase();
+        boolean added = get(key).isEmpty();
+        return new AliasTrie<>(this.root.with(key, 0, value), added ? this.size + 1 : this.size);
+    }
+
+    /**
+     * Calls the consumer for every alias starting with the given prefix,
+     * in lexicographic order, together with its values. Only the part of
+     * the trie below the prefix is visited.
+     *
+     * @param prefix The prefix of the aliases
+     * @param consumer The consumer to call with each alias and its values
+     */
+    void forEachWithPrefix(String prefix, BiConsumer<String, List<V>> consumer) {
+        String key = prefix.toLowerCase();
+        Node<V> node = this.root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node<V> child = node.getChild(key.charAt(pos));
+            if (child == null) {
+                return;
+            }
+            int remaining = key.length() - pos;
+            if (remaining <= child.label.length()) {
+                // The prefix ends within the label of the child
+                if (!child.label.startsWith(key.substring(pos))) {
+                    return;
+                }
+            } else if (!key.startsWith(child.label, pos)) {
+                return;
+            }
+            node = child;
+            pos += child.label.length();
+        }
+        StringBuilder path = new StringBuilder(key.length() + 16);
+        path.append(key, 0, Math.min(pos, key.length()));
+        if (pos > key.length()) {
+            // Complete the label of the node the prefix ended in
+            path.append(node.label, node.label.length() - (pos - key.length()), node.label.length());
+        }
+        node.forEach(path, consumer);
+    }
+
+    private static final class Node<V> {
+
+        @SuppressWarnings("rawtypes")
+        static final Node[] NO_CHILDREN = new Node[0];
+
+        final String label;
+        final ImmutableList<V> values;
+        // Sorted by the first character of their labels, which are unique
+        final Node<V>[] children;
+
+        Node(String label, ImmutableList<V> values, Node<V>[] children) {
+            this.label = label;
+            this.values = values;
+            this.children = children;
+        }
+
+        private int indexOf(char c) {
+            int low = 0;
+            int high = this.children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = this.children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        Node<V> getChild(char c) {
+            int index = indexOf(c);
+            return index < 0 ? null : this.children[index];
+        }
+
+        Node<V> with(String key, int pos, V value) {
+            if (pos == key.length()) {
+                ImmutableList<V> values = ImmutableList.<V>builder().addAll(this.values).add(value).build();
+                return new Node<>(this.label, values, this.children);
+            }
+
+            int index = indexOf(key.charAt(pos));
+            if (index < 0) {
+                index = -(index + 1);
+                Node<V>[] children = Arrays.copyOf(this.children, this.children.length + 1);
+                System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+                children[index] = leaf(key.substring(pos), value);
+                return new Node<>(this.label, this.values, children);
+            }
+
+            Node<V> child = this.children[index];
+            int common = commonPrefixLength(child.label, key, pos);
+            Node<V> replacement;
+            if (common == child.label.length()) {
+                replacement = child.with(key, pos + common, value);
+            } else {
+                // Split the label of the child at the end of the common part
+                Node<V> suffix = new Node<>(child.label.substring(common), child.values, child.children);
+                if (pos + common == key.length()) {
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    Node<V>[] splitChildren = new Node[] {suffix};
+                    replacement = new Node<>(child.label.substring(0, common), ImmutableList.of(value), splitChildren);
+                } else {
+                    Node<V> leaf = leaf(key.substring(pos + common), value);
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    Node<V>[] splitChildren = suffix.label.charAt(0) < leaf.label.charAt(0) ? new Node[] {suffix, leaf} : new Node[] {leaf, suffix};
+                    replacement = new Node<>(child.label.substring(0, common), ImmutableList.of(), splitChildren);
+                }
+            }
+
+            Node<V>[] children = this.children.clone();
+            children[index] = replacement;
+            return new Node<>(this.label, this.values, children);
+        }
+
+        void forEach(StringBuilder path, BiConsumer<String, List<V>> consumer) {
+            if (!this.values.isEmpty()) {
+                consumer.accept(path.toString(), this.values);
+            }
+            int length = path.length();
+            for (Node<V> child : this.children) {
+                path.append(child.label);
+                child.forEach(path, consumer);
+                path.setLength(length);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V> leaf(String label, V value) {
+            return new Node<>(label, ImmutableList.of(value), NO_CHILDREN);
+        }
+
+        private static int commonPrefixLength(String label, String key, int pos) {
+            int max = Math.min(label.length(), key.length() - pos);
+            int i = 0;
+            while (i < max && label.charAt(i) == key.charAt(pos + i)) {
+                i++;
+            }
+            return i;
+        }
+
+    }
+
+}
@@ -30,7 +30,7 @@
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
@@ -39,8 +39,6 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.util.GuavaCollectors;
-import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandMapping;
@@ -81,7 +79,9 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
+    // Only accessed while holding the lock, reads use the snapshot
     private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -171,9 +171,12 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            AliasTrie<CommandMapping> trie = this.snapshot.aliases;
             for (String alias : aliases) {
                 this.commands.put(alias.toLowerCase(), mapping);
+                trie = trie.with(alias, mapping);
             }
+            this.snapshot = new Snapshot(trie);
 
             return Optional.of(mapping);
         } else {
@@ -188,7 +191,11 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        Collection<CommandMapping> removed = this.commands.removeAll(alias.toLowerCase());
+        if (!removed.isEmpty()) {
+            updateSnapshot();
+        }
+        return removed;
     }
 
     /**
@@ -208,6 +215,9 @@ public synchronized boolean removeAll(Collection<?> aliases) {
             }
         }
 
+        if (found) {
+            updateSnapshot();
+        }
         return found;
     }
 
@@ -231,6 +241,9 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
             }
         }
 
+        if (found != null) {
+            updateSnapshot();
+        }
         return Optional.ofNullable(found);
     }
 
@@ -253,19 +266,26 @@ public synchronized boolean removeMappings(Collection<?> mappings) {
             }
         }
 
+        if (found) {
+            updateSnapshot();
+        }
         return found;
     }
 
+    private void updateSnapshot() {
+        this.snapshot = new Snapshot(AliasTrie.of(this.commands));
+    }
+
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return this.snapshot.getMappings();
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
+    public Set<String> getPrimaryAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.getMappings()) {
             aliases.add(mapping.getPrimaryAlias());
         }
 
@@ -273,10 +293,10 @@ public synchronized Set<String> getPrimaryAliases() {
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
+    public Set<String> getAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.getMappings()) {
             aliases.addAll(mapping.getAllAliases());
         }
 
@@ -289,8 +309,8 @@ public Optional<CommandMapping> get(String alias) {
     }
 
     @Override
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        List<CommandMapping> results = this.snapshot.aliases.get(alias);
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0) {
@@ -301,31 +321,26 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return !this.snapshot.aliases.get(alias).isEmpty();
     }
 
     @Override
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        for (CommandMapping test : this.commands.values()) {
-            if (mapping.equals(test)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.snapshot.getMappings().contains(mapping);
     }
 
     @Override
     public CommandResult process(CommandSource source, String commandLine) throws CommandException {
-        final String[] argSplit = commandLine.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
+        final int split = commandLine.indexOf(' ');
+        final String alias = split == -1 ? commandLine : commandLine.substring(0, split);
+        Optional<CommandMapping> cmdOptional = get(alias, source);
         if (!cmdOptional.isPresent()) {
-            throw new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]); // TODO: Fix properly to use a SpongeTranslation??
+            throw new CommandNotFoundException(t("commands.generic.notFound"), alias); // TODO: Fix properly to use a SpongeTranslation??
         }
-        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
+        final String arguments = split == -1 ? "" : commandLine.substring(split + 1);
         final CommandCallable spec = cmdOptional.get().getCallable();
         try {
             return spec.process(source, arguments);
@@ -336,19 +351,30 @@ public CommandResult process(CommandSource source, String commandLine) throws Co
 
     @Override
     public List<String> getSuggestions(CommandSource src, final String arguments) throws CommandException {
-        final String[] argSplit = arguments.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
-        if (argSplit.length == 1) {
-            return filterCommands(src).stream().filter(new StartsWithPredicate(argSplit[0])).collect(GuavaCollectors.toImmutableList());
-        } else if (!cmdOptional.isPresent()) {
+        final int split = arguments.indexOf(' ');
+        if (split == -1) {
+            // Only the aliases starting with the argument are looked at
+            ImmutableList.Builder<String> suggestions = ImmutableList.builder();
+            this.snapshot.aliases.forEachWithPrefix(arguments, (alias, mappings) -> {
+                for (CommandMapping mapping : mappings) {
+                    if (mapping.getCallable().testPermission(src)) {
+                        suggestions.add(alias);
+                        return;
+                    }
+                }
+            });
+            return suggestions.build();
+        }
+        Optional<CommandMapping> cmdOptional = get(arguments.substring(0, split), src);
+        if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
-        return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1]);
+        return cmdOptional.get().getCallable().getSuggestions(src, arguments.substring(split + 1));
     }
 
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.getMappings()) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -363,7 +389,7 @@ public Optional<Text> getShortDescription(CommandSource source) {
 
     @Override
     public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
+        if (this.snapshot.aliases.size() == 0) {
             return Optional.empty();
         }
         Text.Builder build = t("Available commands:\n").toBuilder();
@@ -388,7 +414,7 @@ public Optional<Text> getHelp(CommandSource source) {
     }
 
     private Set<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
+        return Multimaps.filterValues(this.snapshot.getCommands(), input -> input.getCallable().testPermission(src)).keys().elementSet();
     }
 
     /**
@@ -396,8 +422,8 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
-        return this.commands.size();
+    public int size() {
+        return this.snapshot.getCommands().size();
     }
 
     @Override
@@ -423,12 +449,50 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.snapshot.getCommands().get(alias));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.snapshot.getCommands();
+    }
+
+    /**
+     * An immutable state of the registered commands, which is replaced as a
+     * whole when they change so that it can be read without locking. Views
+     * other than the alias trie are created from it when first requested.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(AliasTrie.empty());
+
+        final AliasTrie<CommandMapping> aliases;
+        @Nullable private volatile ImmutableListMultimap<String, CommandMapping> commands;
+        @Nullable private volatile ImmutableSet<CommandMapping> mappings;
+
+        Snapshot(AliasTrie<CommandMapping> aliases) {
+            this.aliases = aliases;
+        }
+
+        ImmutableListMultimap<String, CommandMapping> getCommands() {
+            ImmutableListMultimap<String, CommandMapping> commands = this.commands;
+            if (commands == null) {
+                ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+                this.aliases.forEachWithPrefix("", builder::putAll);
+                this.commands = commands = builder.build();
+            }
+            return commands;
+        }
+
+        ImmutableSet<CommandMapping> getMappings() {
+            ImmutableSet<CommandMapping> mappings = this.mappings;
+            if (mappings == null) {
+                this.mappings = mappings = ImmutableSet.copyOf(getCommands().values());
+            }
+            return mappings;
+        }
+
     }
+
 }
@@ -31,6 +31,9 @@
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
@@ -51,29 +54,46 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 /**
  * Specification for how command arguments should be parsed.
+ *
+ * <p>A command spec can be declared asynchronous with
+ * {@link Builder#async(Object)}, in which case the arguments are parsed and
+ * the executor is called off the main thread. Work that has to happen on the
+ * main thread, such as changing the world, can be handed back to it with
+ * {@link #supplySync(Object, Supplier)} and
+ * {@link #runSync(Object, Runnable)}.</p>
  */
 public final class CommandSpec implements CommandCallable {
 
+    private static final ConcurrentMap<Object, Executor> syncExecutors = new MapMaker().weakKeys().makeMap();
+
     private final CommandElement args;
     private final CommandExecutor executor;
     private final Optional<Text> description;
     @Nullable private final Text extendedDescription;
     @Nullable private final String permission;
     private final InputTokenizer argumentParser;
+    @Nullable private final Executor asyncExecutor;
+    @Nullable private final Executor syncExecutor;
 
     private CommandSpec(CommandElement args, CommandExecutor executor, @Nullable Text description, @Nullable Text extendedDescription,
-            @Nullable String permission, InputTokenizer parser) {
+            @Nullable String permission, InputTokenizer parser, @Nullable Executor asyncExecutor, @Nullable Executor syncExecutor) {
         this.args = args;
         this.executor = executor;
         this.permission = permission;
         this.description = Optional.ofNullable(description);
         this.extendedDescription = extendedDescription;
         this.argumentParser = parser;
+        this.asyncExecutor = asyncExecutor;
+        this.syncExecutor = syncExecutor;
     }
 
     /**
@@ -85,6 +105,48 @@ public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Runs the given supplier on the main thread through the synchronous
+     * executor of the given plugin. Asynchronous commands use this to hand
+     * work back to the main thread.
+     *
+     * <p>The returned future must not be waited on from the main thread, as
+     * the supplier can only run once the main thread is free.</p>
+     *
+     * @param plugin The plugin owning the task
+     * @param supplier The supplier to run on the main thread
+     * @param <T> The type of the supplied value
+     * @return A future completed with the supplied value
+     * @see Scheduler#createSyncExecutor(Object)
+     */
+    public static <T> CompletableFuture<T> supplySync(Object plugin, Supplier<T> supplier) {
+        checkNotNull(supplier, "supplier");
+        return CompletableFuture.supplyAsync(supplier, getSyncExecutor(plugin));
+    }
+
+    /**
+     * Runs the given task on the main thread through the synchronous
+     * executor of the given plugin. Asynchronous commands use this to hand
+     * work back to the main thread.
+     *
+     * <p>The returned future must not be waited on from the main thread, as
+     * the task can only run once the main thread is free.</p>
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task to run on the main thread
+     * @return A future completed once the task ran
+     * @see Scheduler#createSyncExecutor(Object)
+     */
+    public static CompletableFuture<Void> runSync(Object plugin, Runnable task) {
+        checkNotNull(task, "task");
+        return CompletableFuture.runAsync(task, getSyncExecutor(plugin));
+    }
+
+    private static Executor getSyncExecutor(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        return syncExecutors.computeIfAbsent(plugin, key -> Sponge.getScheduler().createSyncExecutor(key));
+    }
+
     /**
      * Builder for command specs.
      */
@@ -103,6 +165,10 @@ public static final class Builder {
         @Nullable
         private Map<List<String>, CommandCallable> childCommandMap;
         private InputTokenizer argumentParser = InputTokenizers.quotedStrings(false);
+        @Nullable
+        private Executor asyncExecutor;
+        @Nullable
+        private Executor syncExecutor;
 
         private Builder() {}
 
@@ -227,6 +293,46 @@ public Builder inputTokenizer(InputTokenizer parser) {
             return this;
         }
 
+        /**
+         * Makes this command asynchronous. The arguments are parsed and the
+         * executor is called on the asynchronous executor of the given
+         * plugin. Errors raised by the command are sent to the source on the
+         * main thread, along with the usage of the command if its arguments
+         * could not be parsed.
+         *
+         * <p>This changes the contract of
+         * {@link CommandSpec#process(CommandSource, String)}: it returns
+         * {@link CommandResult#empty()} before the command ran, and throws
+         * nothing but permission errors. Callers which need the actual
+         * result must use
+         * {@link CommandSpec#processAsync(CommandSource, String)}
+         * instead.</p>
+         *
+         * @param plugin The plugin owning the tasks of the command
+         * @return this
+         * @see Scheduler#createAsyncExecutor(Object)
+         */
+        public Builder async(Object plugin) {
+            checkNotNull(plugin, "plugin");
+            return async(Sponge.getScheduler().createAsyncExecutor(plugin), getSyncExecutor(plugin));
+        }
+
+        /**
+         * Makes this command asynchronous, running it on the given executor
+         * and sending errors to the source through the given synchronous
+         * executor. See {@link #async(Object)} for how this affects
+         * {@link CommandSpec#process(CommandSource, String)}.
+         *
+         * @param asyncExecutor The executor to parse and execute on
+         * @param syncExecutor The executor to report errors on
+         * @return this
+         */
+        public Builder async(Executor asyncExecutor, Executor syncExecutor) {
+            this.asyncExecutor = checkNotNull(asyncExecutor, "asyncExecutor");
+            this.syncExecutor = checkNotNull(syncExecutor, "syncExecutor");
+            return this;
+        }
+
         /**
          * Create a new {@link CommandSpec} based on the data provided in this builder.
          *
@@ -254,7 +360,7 @@ public CommandSpec build() {
             }
 
             return new CommandSpec(this.args, this.executor, this.description, this.extendedDescription, this.permission,
-                    this.argumentParser);
+                    this.argumentParser, this.asyncExecutor, this.syncExecutor);
         }
     }
 
@@ -323,15 +429,110 @@ public InputTokenizer getInputTokenizer() {
         return this.argumentParser;
     }
 
+    /**
+     * Gets whether this command is parsed and executed asynchronously.
+     *
+     * @return Whether this command is asynchronous
+     */
+    public boolean isAsync() {
+        return this.asyncExecutor != null;
+    }
+
+    /**
+     * Processes this command, returning its result once it completed. For
+     * an asynchronous command, the permission is checked on the calling
+     * thread and the rest runs on the asynchronous executor, otherwise the
+     * command runs on the calling thread.
+     *
+     * @param source The source of the command
+     * @param arguments The raw arguments
+     * @return A future completed with the result of the command, or
+     *     exceptionally with the exception the command raised
+     */
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) {
+        try {
+            checkPermission(source);
+        } catch (CommandException e) {
+            final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (this.asyncExecutor == null) {
+            final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+            try {
+                future.complete(execute(source, arguments));
+            } catch (CommandException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        return executeAsync(source, arguments);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An asynchronous command only has its permission checked here, and
+     * returns {@link CommandResult#empty()} right away rather than the
+     * result of its executor. Errors raised later, including invalid
+     * arguments, are not thrown but sent to the source along with the usage
+     * of the command where appropriate. Use
+     * {@link #processAsync(CommandSource, String)} to get the actual result
+     * or exception.</p>
+     */
     @Override
     public CommandResult process(CommandSource source, String arguments) throws CommandException {
         checkPermission(source);
+        if (this.asyncExecutor == null) {
+            return execute(source, arguments);
+        }
+        executeAsync(source, arguments).whenComplete((result, error) -> {
+            if (error != null) {
+                reportError(source, error);
+            }
+        });
+        return CommandResult.empty();
+    }
+
+    private CommandResult execute(CommandSource source, String arguments) throws CommandException {
         final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
         final CommandContext context = new CommandContext();
         this.populateContext(source, args, context);
         return getExecutor().execute(source, context);
     }
 
+    private CompletableFuture<CommandResult> executeAsync(CommandSource source, String arguments) {
+        final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        try {
+            this.asyncExecutor.execute(() -> {
+                try {
+                    future.complete(execute(source, arguments));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) { // The executor rejected the task
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void reportError(CommandSource source, Throwable error) {
+        final Text message;
+        if (error instanceof CommandException && ((CommandException) error).getText() != null) {
+            message = ((CommandException) error).getText();
+        } else {
+            message = t("Error occurred while executing command: %s", String.valueOf(error.getMessage()));
+        }
+        final boolean includeUsage = error instanceof ArgumentParseException;
+        this.syncExecutor.execute(() -> {
+            source.sendMessage(CommandMessageFormatting.error(message));
+            if (includeUsage) {
+                source.sendMessage(t("Usage: %s", getUsage(source)));
+            }
+        });
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
         CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
@@ -404,12 +605,15 @@ public boolean equals(@Nullable Object o) {
                 && Objects.equal(this.description, that.description)
                 && Objects.equal(this.extendedDescription, that.extendedDescription)
                 && Objects.equal(this.permission, that.permission)
-                && Objects.equal(this.argumentParser, that.argumentParser);
+                && Objects.equal(this.argumentParser, that.argumentParser)
+                && Objects.equal(this.asyncExecutor, that.asyncExecutor)
+                && Objects.equal(this.syncExecutor, that.syncExecutor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser);
+        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser,
+                this.asyncExecutor, this.syncExecutor);
     }
 
     @Override
@@ -421,6 +625,8 @@ public String toString() {
                 .add("extendedDescription", this.extendedDescription)
                 .add("permission", this.permission)
                 .add("argumentParser", this.argumentParser)
+                .add("asyncExecutor", this.asyncExecutor)
+                .add("syncExecutor", this.syncExecutor)
                 .toString();
     }
 }
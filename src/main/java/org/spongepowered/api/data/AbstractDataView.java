@@ -0,0 +1,411 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.util.Coerce;
+import org.spongepowered.api.util.persistence.DataBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Base implementation of a {@link DataView}, which keeps track of the
+ * position of the view and implements all typed getters in terms of
+ * {@link #get(DataQuery)}.
+ *
+ * <p>Views are equal to any other {@link AbstractDataView} at the same path
+ * holding equal {@link #getRawValues() values}, regardless of how the data
+ * is stored. Arrays are compared by content.</p>
+ */
+public abstract class AbstractDataView implements DataView {
+
+    private final DataContainer container;
+    private final DataView parent;
+    private final DataQuery path;
+
+    /**
+     * Creates the root view of a container, the implementation must be a
+     * {@link DataContainer}.
+     */
+    protected AbstractDataView() {
+        checkState(this instanceof DataContainer, "Cannot construct a root DataView without a container!");
+        this.path = of();
+        this.parent = this;
+        this.container = (DataContainer) this;
+    }
+
+    /**
+     * Creates a view at the given path relative to its parent.
+     *
+     * @param parent The parent view
+     * @param path The path relative to the parent
+     */
+    protected AbstractDataView(DataView parent, DataQuery path) {
+        checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.parent = parent;
+        this.container = parent.getContainer();
+        this.path = parent.getCurrentPath().then(path);
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                return Optional.of((DataView) val.get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
+                    builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+                }
+                return Optional.of(builder.build());
+            } else if (val.get() instanceof Map) {
+                return Optional.of((Map<?, ?>) ensureMappingOf(val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Object ensureMappingOf(Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object entry : (Collection<?>) object) {
+                builder.add(ensureMappingOf(entry));
+            }
+            return builder.build();
+        } else {
+            return object;
+        }
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asBoolean(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asInteger(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asLong(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asDouble(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asString(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <T> Optional<List<T>> getList(DataQuery path, Function<Object, Optional<T>> coercer) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<T> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<T> optional = coercer.apply(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of((List<?>) val.get());
+            } else if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        return getList(path, Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        return getList(path, Coerce::asChar);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        return getList(path, Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        return getList(path, Coerce::asByte);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        return getList(path, Coerce::asShort);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        return getList(path, Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        return getList(path, Coerce::asLong);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        return getList(path, Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        return getList(path, Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        return getList(path, object -> object instanceof Map ? Optional.<Map<?, ?>>of((Map<?, ?>) object) : Optional.empty());
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        return getList(path, object -> object instanceof DataView ? Optional.of((DataView) object) : Optional.empty());
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        DataManager manager = Sponge.getDataManager();
+        Optional<DataView> optional = getView(path);
+
+        if (!optional.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = manager.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.empty();
+        } else {
+            return builderOptional.get().build(optional.get());
+        }
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        DataManager manager = Sponge.getDataManager();
+        Optional<List<DataView>> optional = getViewList(path);
+
+        if (!optional.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = manager.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.empty();
+        } else {
+            List<T> newList = Lists.newArrayList();
+            for (DataView view : optional.get()) {
+                Optional<T> element = builderOptional.get().build(view);
+                if (element.isPresent()) {
+                    newList.add(element.get());
+                }
+            }
+            return Optional.of(newList);
+        }
+    }
+
+    /**
+     * Gets the values directly held by this view, keyed by their name.
+     * Unlike {@link #get(DataQuery)}, stored arrays are not copied. The
+     * returned map is only used to compare and hash views and must not be
+     * modified.
+     *
+     * @return The values held by this view
+     */
+    protected abstract Map<String, Object> getRawValues();
+
+    @Override
+    public int hashCode() {
+        int valuesHash = 0;
+        for (Map.Entry<String, Object> entry : getRawValues().entrySet()) {
+            // Like Map#hashCode, except that arrays are hashed by content
+            valuesHash += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[] {entry.getValue()});
+        }
+        return Objects.hashCode(valuesHash, this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof AbstractDataView)) {
+            return false;
+        }
+        final AbstractDataView other = (AbstractDataView) obj;
+        if (!Objects.equal(this.path, other.path)) {
+            return false;
+        }
+
+        final Map<String, Object> values = getRawValues();
+        final Map<String, Object> otherValues = other.getRawValues();
+        if (values.size() != otherValues.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!otherValues.containsKey(entry.getKey())
+                    || !Arrays.deepEquals(new Object[] {entry.getValue()}, new Object[] {otherValues.get(entry.getKey())})) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
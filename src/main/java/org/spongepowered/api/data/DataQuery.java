@@ -27,6 +27,8 @@
 import com.google.common.base.Joiner;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import java.util.List;
 import java.util.regex.Pattern;
@@ -39,6 +41,8 @@ public final class DataQuery {
 
     private static final DataQuery EMPTY = new DataQuery();
 
+    private static final Interner<DataQuery> INTERNER = Interners.newWeakInterner();
+
     /**
      * The parts that make up this query.
      */
@@ -46,6 +50,8 @@ public final class DataQuery {
 
     private ImmutableList<DataQuery> queryParts; //lazy loaded
 
+    private int hash; //lazy loaded
+
     /**
      * Constructs a query using the given separator character and path.
      *
@@ -139,6 +145,45 @@ public List<String> getParts() {
         return this.parts;
     }
 
+    /**
+     * Gets the number of parts that make up this query.
+     *
+     * @return The depth of this query
+     */
+    public int getDepth() {
+        return this.parts.size();
+    }
+
+    /**
+     * Gets the part at the given depth of this query.
+     *
+     * @param index The index of the part, starting at zero
+     * @return The part
+     * @throws IndexOutOfBoundsException If the index is not within
+     *     {@link #getDepth()}
+     */
+    public String getPart(int index) {
+        return this.parts.get(index);
+    }
+
+    /**
+     * Returns a canonical representation of this query.
+     *
+     * <p>Queries which are equal to each other share the same interned
+     * instance, which allows constant queries (such as those in
+     * {@link Queries}) to be compared by identity and to keep their
+     * lazily computed state, such as the hash code and
+     * {@link #getQueryParts()}, shared across all users.</p>
+     *
+     * @return The interned query
+     */
+    public DataQuery intern() {
+        if (this.parts.isEmpty()) {
+            return EMPTY;
+        }
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns a new query that is made up of this query's parts followed by the
      * given query's parts.
@@ -231,7 +276,11 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = this.hash = Objects.hashCode(this.parts);
+        }
+        return hash;
     }
 
     @Override
@@ -243,6 +292,6 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        return hashCode() == other.hashCode() && Objects.equal(this.parts, other.parts);
     }
 }
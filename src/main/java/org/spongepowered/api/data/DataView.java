@@ -30,6 +30,12 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.persistence.DataBuilder;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -316,6 +322,138 @@ default boolean contains(Key<?> key, Key<?>... keys) {
      */
     Optional<String> getString(DataQuery path);
 
+    /**
+     * Gets a read-only {@link ByteBuffer} view of the {@code byte[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code byte[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code byte[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of bytes, if available
+     */
+    default Optional<ByteBuffer> getByteBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof byte[])
+                .map(object -> ByteBuffer.wrap((byte[]) object).asReadOnlyBuffer());
+    }
+
+    /**
+     * Gets a read-only {@link ShortBuffer} view of the {@code short[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code short[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code short[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of shorts, if available
+     */
+    default Optional<ShortBuffer> getShortBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof short[])
+                .map(object -> ShortBuffer.wrap((short[]) object).asReadOnlyBuffer());
+    }
+
+    /**
+     * Gets a read-only {@link IntBuffer} view of the {@code int[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code int[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code int[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of integers, if available
+     */
+    default Optional<IntBuffer> getIntBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof int[])
+                .map(object -> IntBuffer.wrap((int[]) object).asReadOnlyBuffer());
+    }
+
+    /**
+     * Gets a read-only {@link LongBuffer} view of the {@code long[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code long[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code long[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of longs, if available
+     */
+    default Optional<LongBuffer> getLongBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof long[])
+                .map(object -> LongBuffer.wrap((long[]) object).asReadOnlyBuffer());
+    }
+
+    /**
+     * Gets a read-only {@link FloatBuffer} view of the {@code float[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code float[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code float[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of floats, if available
+     */
+    default Optional<FloatBuffer> getFloatBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof float[])
+                .map(object -> FloatBuffer.wrap((float[]) object).asReadOnlyBuffer());
+    }
+
+    /**
+     * Gets a read-only {@link DoubleBuffer} view of the {@code double[]} stored at
+     * the path, if available.
+     *
+     * <p>The returned buffer can not be used to modify the stored array.
+     * The default implementation wraps the array returned by
+     * {@link #get(DataQuery)}. Implementations should override it to wrap
+     * the stored array directly, which allows large arrays to be consumed
+     * without any allocation proportional to their size.</p>
+     *
+     * <p>If a {@code double[]} does not exist, or the data residing at the path
+     * is not an instance of a {@code double[]}, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer of doubles, if available
+     */
+    default Optional<DoubleBuffer> getDoubleBuffer(DataQuery path) {
+        return get(path)
+                .filter(object -> object instanceof double[])
+                .map(object -> DoubleBuffer.wrap((double[]) object).asReadOnlyBuffer());
+    }
+
     /**
      * Gets the {@link List} of something by path, if available.
      *
@@ -33,17 +33,18 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.ArrayUtils;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.value.BaseValue;
-import org.spongepowered.api.util.Coerce;
-import org.spongepowered.api.util.persistence.DataBuilder;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -55,46 +56,15 @@
 /**
  * Default implementation of a {@link DataView} being used in memory.
  */
-public class MemoryDataView implements DataView {
+public class MemoryDataView extends AbstractDataView {
 
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
-    private final DataContainer container;
-    private final DataView parent;
-    private final DataQuery path;
 
     protected MemoryDataView() {
-        checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
-        this.path = of();
-        this.parent = this;
-        this.container = (DataContainer) this;
     }
 
     protected MemoryDataView(DataView parent, DataQuery path) {
-        checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
-        this.parent = parent;
-        this.container = parent.getContainer();
-        this.path = parent.getCurrentPath().then(path);
-    }
-
-    @Override
-    public DataContainer getContainer() {
-        return this.container;
-    }
-
-    @Override
-    public DataQuery getCurrentPath() {
-        return this.path;
-    }
-
-    @Override
-    public String getName() {
-        List<String> parts = this.path.getParts();
-        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
-    }
-
-    @Override
-    public Optional<DataView> getParent() {
-        return Optional.ofNullable(this.parent);
+        super(parent, path);
     }
 
     @Override
@@ -116,40 +86,9 @@ public Set<DataQuery> getKeys(boolean deep) {
         return builder.build();
     }
 
-    @Override
-    public Map<DataQuery, Object> getValues(boolean deep) {
-        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (DataQuery query : getKeys(deep)) {
-            Object value = get(query).get();
-            if (value instanceof DataView) {
-                builder.put(query, ((DataView) value).getValues(deep));
-            } else {
-                builder.put(query, get(query).get());
-            }
-        }
-        return builder.build();
-    }
-
     @Override
     public final boolean contains(DataQuery path) {
-        checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        if (queryParts.size() == 1) {
-            String key = queryParts.get(0).getParts().get(0);
-            return this.map.containsKey(key);
-        } else {
-            DataQuery subQuery = queryParts.get(0);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
-                return false;
-            }
-            List<String> subParts = Lists.newArrayListWithCapacity(queryParts.size() - 1);
-            for (int i = 1; i < queryParts.size(); i++) {
-                subParts.add(queryParts.get(i).asString("."));
-            }
-            return subViewOptional.get().contains(of(subParts));
-        }
+        return lookup(checkNotNull(path, "path")) != null;
     }
 
     @Override
@@ -175,56 +114,73 @@ public boolean contains(DataQuery path, DataQuery... paths) {
     @Override
     public Optional<Object> get(DataQuery path) {
         checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        int sz = queryParts.size();
+        List<String> parts = path.getParts();
 
-        if (sz == 0) {
+        if (parts.isEmpty()) {
             return Optional.<Object>of(this);
         }
 
-        if (sz == 1) {
-            String key = queryParts.get(0).getParts().get(0);
-            if (this.map.containsKey(key)) {
-                final Object object = this.map.get(key);
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-                return Optional.of(this.map.get(key));
-            } else {
-                return Optional.empty();
-            }
-        }
-        DataQuery subQuery = queryParts.get(0);
-        Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-        DataView subView;
-        if (!subViewOptional.isPresent()) {
+        final Object object = lookup(parts);
+        if (object == null) {
             return Optional.empty();
-        } else {
-            subView = subViewOptional.get();
         }
-        List<String> subParts = Lists.newArrayListWithCapacity(queryParts.size() - 1);
-        for (int i = 1; i < queryParts.size(); i++) {
-            subParts.add(queryParts.get(i).asString("."));
+        if (object.getClass().isArray()) {
+            if (object instanceof byte[]) {
+                return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+            } else if (object instanceof short[]) {
+                return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+            } else if (object instanceof int[]) {
+                return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+            } else if (object instanceof long[]) {
+                return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+            } else if (object instanceof float[]) {
+                return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+            } else if (object instanceof double[]) {
+                return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+            } else if (object instanceof boolean[]) {
+                return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+            } else {
+                return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+            }
         }
-        return subView.get(of(subParts));
+        return Optional.of(object);
+    }
 
+    /**
+     * Looks up the raw value stored at the given path without copying it.
+     *
+     * @param path The path of the value
+     * @return The stored value, or null if there is none
+     */
+    @Nullable
+    private Object lookup(DataQuery path) {
+        List<String> parts = path.getParts();
+        return parts.isEmpty() ? null : lookup(parts);
+    }
+
+    /**
+     * Looks up the raw value stored at the given path parts, walking down
+     * through nested {@link MemoryDataView}s directly instead of creating a
+     * sub query for every level.
+     *
+     * @param parts The non-empty parts of the path
+     * @return The stored value, or null if there is none
+     */
+    @Nullable
+    private Object lookup(List<String> parts) {
+        MemoryDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final Object child = view.map.get(parts.get(i));
+            if (child instanceof MemoryDataView) {
+                view = (MemoryDataView) child;
+            } else if (child instanceof DataView) {
+                return ((DataView) child).get(of(parts.subList(i + 1, parts.size()))).orElse(null);
+            } else {
+                return null;
+            }
+        }
+        return view.map.get(parts.get(last));
     }
 
     @Override
@@ -232,7 +188,7 @@ public Optional<Object> get(DataQuery path) {
     public DataView set(DataQuery path, Object value) {
         checkNotNull(path, "path");
         checkNotNull(value, "value");
-        checkState(this.container != null);
+        checkState(getContainer() != null);
 
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
@@ -243,49 +199,24 @@ public DataView set(DataQuery path, Object value) {
             copyDataView(path, valueContainer);
         } else {
             List<String> parts = path.getParts();
-            if (parts.size() > 1) {
-                String subKey = parts.get(0);
-                DataQuery subQuery = of(subKey);
-                Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-                DataView subView;
-                if (!subViewOptional.isPresent()) {
-                    this.createView(subQuery);
-                    subView = (DataView) this.map.get(subKey);
-                } else {
-                    subView = subViewOptional.get();
-                }
-                List<String> subParts = Lists.newArrayListWithCapacity(parts.size() - 1);
-                for (int i = 1; i < parts.size(); i++) {
-                    subParts.add(parts.get(i));
-                }
-                subView.set(of(subParts), value);
-            } else {
-                if (value instanceof Collection) {
-                    setCollection(parts.get(0), (Collection) value);
-                } else if (value instanceof Map) {
-                    setMap(parts.get(0), (Map) value);
-                } else if (value.getClass().isArray()) {
-                    if (value instanceof byte[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((byte[]) value));
-                    } else if (value instanceof short[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((short[]) value));
-                    } else if (value instanceof int[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((int[]) value));
-                    } else if (value instanceof long[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((long[]) value));
-                    } else if (value instanceof float[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((float[]) value));
-                    } else if (value instanceof double[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((double[]) value));
-                    } else if (value instanceof boolean[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((boolean[]) value));
-                    } else {
-                        this.map.put(parts.get(0), ArrayUtils.clone((Object[]) value));
-                    }
+            checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+            MemoryDataView view = this;
+            final int last = parts.size() - 1;
+            for (int i = 0; i < last; i++) {
+                final String subKey = parts.get(i);
+                final Object child = view.map.get(subKey);
+                if (child instanceof MemoryDataView) {
+                    view = (MemoryDataView) child;
+                } else if (child instanceof DataView) {
+                    ((DataView) child).set(of(parts.subList(i + 1, parts.size())), value);
+                    return this;
                 } else {
-                    this.map.put(parts.get(0), value);
+                    final MemoryDataView subView = new MemoryDataView(view, of(subKey));
+                    view.map.put(subKey, subView);
+                    view = subView;
                 }
             }
+            view.setValue(parts.get(last), value);
         }
         return this;
     }
@@ -295,6 +226,35 @@ public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
         return set(checkNotNull(key, "Key was null!").getQuery(), value);
     }
 
+    @SuppressWarnings("rawtypes")
+    private void setValue(String key, Object value) {
+        if (value instanceof Collection) {
+            setCollection(key, (Collection) value);
+        } else if (value instanceof Map) {
+            setMap(key, (Map) value);
+        } else if (value.getClass().isArray()) {
+            if (value instanceof byte[]) {
+                this.map.put(key, ArrayUtils.clone((byte[]) value));
+            } else if (value instanceof short[]) {
+                this.map.put(key, ArrayUtils.clone((short[]) value));
+            } else if (value instanceof int[]) {
+                this.map.put(key, ArrayUtils.clone((int[]) value));
+            } else if (value instanceof long[]) {
+                this.map.put(key, ArrayUtils.clone((long[]) value));
+            } else if (value instanceof float[]) {
+                this.map.put(key, ArrayUtils.clone((float[]) value));
+            } else if (value instanceof double[]) {
+                this.map.put(key, ArrayUtils.clone((double[]) value));
+            } else if (value instanceof boolean[]) {
+                this.map.put(key, ArrayUtils.clone((boolean[]) value));
+            } else {
+                this.map.put(key, ArrayUtils.clone((Object[]) value));
+            }
+        } else {
+            this.map.put(key, value);
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(String key, Collection<?> value) {
         ImmutableList.Builder<Object> builder = ImmutableList.builder();
@@ -370,55 +330,49 @@ private void copyDataView(DataQuery path, DataView value) {
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
+        MemoryDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final Object child = view.map.get(parts.get(i));
+            if (child instanceof MemoryDataView) {
+                view = (MemoryDataView) child;
+            } else if (child instanceof DataView) {
+                ((DataView) child).remove(of(parts.subList(i + 1, parts.size())));
                 return this;
             } else {
-                subView = subViewOptional.get();
-            }
-            List<String> subParts = Lists.newArrayListWithCapacity(parts.size() - 1);
-            for (int i = 1; i < parts.size(); i++) {
-                subParts.add(parts.get(i));
+                return this;
             }
-            subView.remove(of(subParts));
-        } else {
-            this.map.remove(parts.get(0));
         }
+        view.map.remove(parts.get(last));
         return this;
     }
 
     @Override
     public DataView createView(DataQuery path) {
         checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        int sz = queryParts.size();
-
-        checkArgument(sz != 0, "The size of the query must be at least 1");
+        List<String> parts = path.getParts();
 
-        if (sz == 1) {
-            DataQuery key = queryParts.get(0);
-            DataView result = new MemoryDataView(this, key);
-            this.map.put(key.getParts().get(0), result);
-            return result;
-        } else {
-            List<String> subParts = Lists
-                    .newArrayListWithCapacity(queryParts.size() - 1);
-            for (int i = 1; i < sz; i++) {
-                subParts.add(queryParts.get(i).asString('.'));
-            }
-            DataQuery subQuery = of(subParts);
-            DataView subView = (DataView) this.map.get(queryParts.get(0).asString('.'));
-            if (subView == null) {
-                subView = new MemoryDataView(this.parent, queryParts.get(0));
-                this.map.put(queryParts.get(0).asString('.'), subView);
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+
+        MemoryDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final String subKey = parts.get(i);
+            final Object child = view.map.get(subKey);
+            if (child instanceof MemoryDataView) {
+                view = (MemoryDataView) child;
+            } else if (child instanceof DataView) {
+                return ((DataView) child).createView(of(parts.subList(i + 1, parts.size())));
+            } else {
+                final MemoryDataView subView = new MemoryDataView(view, of(subKey));
+                view.map.put(subKey, subView);
+                view = subView;
             }
-            return subView.createView(subQuery);
         }
+        final String key = parts.get(last);
+        final DataView result = new MemoryDataView(view, of(key));
+        view.map.put(key, result);
+        return result;
     }
 
     @Override
@@ -438,426 +392,78 @@ public DataView createView(DataQuery path, Map<?, ?> map) {
     }
 
     @Override
-    public Optional<DataView> getView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
-                    builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
-                }
-                return Optional.of(builder.build());
-            } else if (val.get() instanceof Map) {
-                return Optional.of((Map<?, ?>) ensureMappingOf(val.get()));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private Object ensureMappingOf(Object object) {
-        if (object instanceof DataView) {
-            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
-                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
-            }
-            return builder.build();
-        } else if (object instanceof Map) {
-            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
-            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
-                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
-            }
-            return builder.build();
-        } else if (object instanceof Collection) {
-            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
-            for (Object entry : (Collection) object) {
-                builder.add(ensureMappingOf(entry));
-            }
-            return builder.build();
-        } else {
-            return object;
-        }
-    }
-
-    private Optional<DataView> getUnsafeView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Boolean> getBoolean(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asBoolean(val.get());
+    public Optional<ByteBuffer> getByteBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof byte[]) {
+            return Optional.of(ByteBuffer.wrap((byte[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<Integer> getInt(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asInteger(val.get());
+    public Optional<ShortBuffer> getShortBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof short[]) {
+            return Optional.of(ShortBuffer.wrap((short[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<Long> getLong(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asLong(val.get());
+    public Optional<IntBuffer> getIntBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof int[]) {
+            return Optional.of(IntBuffer.wrap((int[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<Double> getDouble(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asDouble(val.get());
+    public Optional<LongBuffer> getLongBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof long[]) {
+            return Optional.of(LongBuffer.wrap((long[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<String> getString(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asString(val.get());
+    public Optional<FloatBuffer> getFloatBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof float[]) {
+            return Optional.of(FloatBuffer.wrap((float[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<List<?>> getList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
-            }
-            if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
-            }
+    public Optional<DoubleBuffer> getDoubleBuffer(DataQuery path) {
+        final Object object = lookup(checkNotNull(path, "path"));
+        if (object instanceof double[]) {
+            return Optional.of(DoubleBuffer.wrap((double[]) object).asReadOnlyBuffer());
         }
         return Optional.empty();
     }
 
-    @Override
-    public Optional<List<String>> getStringList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<String> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<String> optional = Coerce.asString(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    private Optional<List<?>> getUnsafeList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of((List<?>) val.get());
-            } else if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<List<Character>> getCharacterList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Character> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Character> optional = Coerce.asChar(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Boolean> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Boolean> optional = Coerce.asBoolean(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Byte>> getByteList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Byte> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Byte> optional = Coerce.asByte(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Short>> getShortList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Short> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Short> optional = Coerce.asShort(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Integer>> getIntegerList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Integer> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Integer> optional = Coerce.asInteger(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Long>> getLongList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Long> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Long> optional = Coerce.asLong(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Float>> getFloatList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Float> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Float> optional = Coerce.asFloat(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Double>> getDoubleList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Double> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Double> optional = Coerce.asDouble(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Map<?, ?>> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof Map) {
-                newList.add((Map<?, ?>) object);
-            }
-        }
-
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<DataView>> getViewList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<DataView> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof DataView) {
-                newList.add((DataView) object);
-            }
-        }
-
-        return Optional.of(newList);
-    }
-
-    @Override
-    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        DataManager manager = Sponge.getDataManager();
-        Optional<DataView> optional = getUnsafeView(path);
-
-        if (!optional.isPresent()) {
-            return Optional.empty();
-        }
-
-        Optional<DataBuilder<T>> builderOptional = manager.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.empty();
-        } else {
-            return builderOptional.get().build(optional.get());
-        }
-    }
-
-    @Override
-    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        DataManager manager = Sponge.getDataManager();
-        Optional<List<DataView>> optional = getViewList(path);
-
-        if (!optional.isPresent()) {
-            return Optional.empty();
-        }
-
-        Optional<DataBuilder<T>> builderOptional = manager.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.empty();
-        } else {
-            List<T> newList = Lists.newArrayList();
-            for (DataView view : optional.get()) {
-                Optional<T> element = builderOptional.get().build(view);
-                if (element.isPresent()) {
-                    newList.add(element.get());
-                }
-            }
-            return Optional.of(newList);
-        }
-    }
-
     @Override
     public DataContainer copy() {
         final DataContainer container = new MemoryDataContainer();
-        for (DataQuery query : getKeys(false)) {
-            container.set(query, get(query).get());
+        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+            container.set(of(entry.getKey()), entry.getValue());
         }
         return container;
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(this.map, this.path);
-    }
-
-    @Override
-    public boolean equals(@Nullable Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null || getClass() != obj.getClass()) {
-            return false;
-        }
-        final MemoryDataView other = (MemoryDataView) obj;
-
-        return Objects.equal(this.map.entrySet(), other.map.entrySet())
-               && Objects.equal(this.path, other.path);
+    protected Map<String, Object> getRawValues() {
+        return this.map;
     }
 
     @Override
     public String toString() {
         final Objects.ToStringHelper helper = Objects.toStringHelper(this);
-        if (!this.path.toString().isEmpty()) {
-            helper.add("path", this.path);
+        if (!getCurrentPath().toString().isEmpty()) {
+            helper.add("path", getCurrentPath());
         }
         return helper.add("map", this.map).toString();
     }
@@ -0,0 +1,90 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A read-only {@link DataContainer} lazily decoding data in the binary
+ * format of the {@link BinaryTranslator}, see {@link BinaryDataView}.
+ *
+ * <p>As the container can be passed anywhere a {@link DataView} is
+ * expected, such as {@link org.spongepowered.api.util.persistence.DataBuilder#build(DataView)},
+ * only the entries a builder actually reads are ever decoded.</p>
+ */
+public class BinaryDataContainer extends BinaryDataView implements DataContainer {
+
+    /**
+     * Creates a container backed by the binary data held in the given
+     * buffer, starting at its current position. The position of the given
+     * buffer is not modified.
+     *
+     * @param buffer The buffer, such as a
+     *     {@link java.nio.MappedByteBuffer}
+     * @throws InvalidDataException If the buffer does not hold a view
+     */
+    public BinaryDataContainer(ByteBuffer buffer) {
+        super(checkNotNull(buffer, "buffer").duplicate(), buffer.position() + 1);
+        if (buffer.get(buffer.position()) != BinaryTags.VIEW) {
+            throw new InvalidDataException("Expected a root view");
+        }
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public final DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key).getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
@@ -0,0 +1,532 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A pull parser over data written by the {@link BinaryTranslator}.
+ *
+ * <p>Every call to {@link #next()} advances the reader by one
+ * {@link Token}. Keys and values are only decoded for the entry the reader
+ * is currently positioned on, so callers interested in a few entries can
+ * {@link #skip()} any view, map or list they do not need without building
+ * a {@link DataView} for it.</p>
+ */
+public final class BinaryDataReader {
+
+    /**
+     * The tokens produced by a {@link BinaryDataReader}.
+     */
+    public enum Token {
+        /**
+         * The start of a {@link DataView}.
+         */
+        BEGIN_VIEW,
+        /**
+         * The end of the current {@link DataView}.
+         */
+        END_VIEW,
+        /**
+         * The start of a {@link java.util.Map} nested in a list or map.
+         */
+        BEGIN_MAP,
+        /**
+         * The end of the current map.
+         */
+        END_MAP,
+        /**
+         * The start of a {@link java.util.List}.
+         */
+        BEGIN_LIST,
+        /**
+         * The end of the current list.
+         */
+        END_LIST,
+        /**
+         * A single value, available through {@link #getValue()}.
+         */
+        VALUE,
+        /**
+         * The end of the data, the root view has been fully read.
+         */
+        END_DOCUMENT
+    }
+
+    // The largest array read from a channel, whose length can not be
+    // checked against the remaining data up front
+    private static final int MAX_ARRAY_BYTES = 64 * 1024 * 1024;
+
+    @Nullable private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte rootTag;
+
+    private byte[] kinds = new byte[8];
+    private int[] remaining = new int[8];
+    private int depth;
+    private boolean started;
+
+    @Nullable private String key;
+    @Nullable private Object value;
+
+    /**
+     * Creates a reader consuming the remaining bytes of the given buffer.
+     *
+     * @param buffer The buffer to read from
+     */
+    public BinaryDataReader(ByteBuffer buffer) {
+        this(buffer, BinaryTags.END);
+    }
+
+    /**
+     * Creates a reader for a single value whose tag has already been read,
+     * the buffer being positioned at the start of its payload.
+     *
+     * @param buffer The buffer to read from
+     * @param rootTag The tag of the value, or {@link BinaryTags#END} to
+     *     read a root view including its tag
+     */
+    BinaryDataReader(ByteBuffer buffer, byte rootTag) {
+        this.channel = null;
+        this.buffer = checkNotNull(buffer, "buffer");
+        this.rootTag = rootTag;
+    }
+
+    /**
+     * Creates a reader consuming the given channel through an internal
+     * buffer.
+     *
+     * @param channel The channel to read from
+     */
+    public BinaryDataReader(ReadableByteChannel channel) {
+        this.channel = checkNotNull(channel, "channel");
+        this.buffer = ByteBuffer.allocate(BinaryDataWriter.CHUNK_SIZE);
+        this.buffer.flip();
+        this.rootTag = BinaryTags.END;
+    }
+
+    /**
+     * Advances the reader to the next token.
+     *
+     * @return The token the reader is now positioned on
+     * @throws IOException If the data could not be read
+     * @throws InvalidDataException If the data is malformed
+     */
+    public Token next() throws IOException {
+        this.key = null;
+        this.value = null;
+        if (this.depth == 0) {
+            if (this.started) {
+                return Token.END_DOCUMENT;
+            }
+            this.started = true;
+            if (this.rootTag != BinaryTags.END) {
+                return readPayload(this.rootTag);
+            }
+            final byte tag = readByte();
+            if (tag != BinaryTags.VIEW) {
+                throw new InvalidDataException("Expected a root view but found tag " + tag);
+            }
+            return readPayload(tag);
+        }
+        final byte kind = this.kinds[this.depth - 1];
+        if (kind == BinaryTags.LIST) {
+            if (this.remaining[this.depth - 1]-- == 0) {
+                this.depth--;
+                return Token.END_LIST;
+            }
+            return readPayload(readByte());
+        }
+        final byte tag = readByte();
+        if (tag == BinaryTags.END) {
+            this.depth--;
+            return kind == BinaryTags.VIEW ? Token.END_VIEW : Token.END_MAP;
+        }
+        this.key = readString();
+        return readPayload(tag);
+    }
+
+    /**
+     * Skips the rest of the view, map or list the reader has just entered,
+     * leaving it positioned on the matching end token.
+     *
+     * @throws IOException If the data could not be read
+     * @throws IllegalStateException If the reader is not within a view,
+     *     map or list
+     */
+    public void skip() throws IOException {
+        checkState(this.depth > 0, "Not within a view, map or list");
+        final int target = this.depth - 1;
+        while (this.depth > target) {
+            next();
+        }
+    }
+
+    /**
+     * Gets the key of the current entry, if the reader is positioned on an
+     * entry of a view or map.
+     *
+     * @return The key, or null for list elements and end tokens
+     */
+    @Nullable
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Gets the value of the current {@link Token#VALUE}.
+     *
+     * <p>Arrays are returned as freshly decoded arrays owned by the
+     * caller.</p>
+     *
+     * @return The value, or null if the current token is not a value
+     */
+    @Nullable
+    public Object getValue() {
+        return this.value;
+    }
+
+    /**
+     * Gets the number of views, maps and lists the reader is currently
+     * within.
+     *
+     * @return The depth
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Skips over the payload of a value of the given tag without decoding
+     * it, using absolute positions only.
+     *
+     * @param buffer The buffer holding the data
+     * @param position The position of the payload
+     * @param tag The tag of the value
+     * @return The position right after the payload
+     * @throws InvalidDataException If the data is malformed
+     */
+    static int skipPayload(ByteBuffer buffer, int position, byte tag) {
+        switch (tag) {
+            case BinaryTags.VIEW:
+            case BinaryTags.MAP:
+                byte entryTag;
+                while ((entryTag = getTag(buffer, position++)) != BinaryTags.END) {
+                    position = skipElements(buffer, position + 4, getLength(buffer, position), 1);
+                    position = skipPayload(buffer, position, entryTag);
+                }
+                return position;
+            case BinaryTags.LIST:
+                final int count = getLength(buffer, position);
+                position += 4;
+                // Every element takes at least the byte of its tag
+                checkAvailable(buffer, position, count);
+                for (int i = 0; i < count; i++) {
+                    final byte elementTag = getTag(buffer, position++);
+                    position = skipPayload(buffer, position, elementTag);
+                }
+                return position;
+            case BinaryTags.BYTE:
+            case BinaryTags.BOOLEAN:
+                return skipElements(buffer, position, 1, 1);
+            case BinaryTags.SHORT:
+            case BinaryTags.CHAR:
+                return skipElements(buffer, position, 1, 2);
+            case BinaryTags.INT:
+            case BinaryTags.FLOAT:
+                return skipElements(buffer, position, 1, 4);
+            case BinaryTags.LONG:
+            case BinaryTags.DOUBLE:
+                return skipElements(buffer, position, 1, 8);
+            case BinaryTags.STRING:
+            case BinaryTags.BYTE_ARRAY:
+            case BinaryTags.BOOLEAN_ARRAY:
+                return skipElements(buffer, position + 4, getLength(buffer, position), 1);
+            case BinaryTags.SHORT_ARRAY:
+                return skipElements(buffer, position + 4, getLength(buffer, position), 2);
+            case BinaryTags.INT_ARRAY:
+            case BinaryTags.FLOAT_ARRAY:
+                return skipElements(buffer, position + 4, getLength(buffer, position), 4);
+            case BinaryTags.LONG_ARRAY:
+            case BinaryTags.DOUBLE_ARRAY:
+                return skipElements(buffer, position + 4, getLength(buffer, position), 8);
+            default:
+                throw new InvalidDataException("Unknown tag " + tag);
+        }
+    }
+
+    static byte getTag(ByteBuffer buffer, int position) {
+        checkAvailable(buffer, position, 1);
+        return buffer.get(position);
+    }
+
+    static int getLength(ByteBuffer buffer, int position) {
+        checkAvailable(buffer, position, 4);
+        final int length = buffer.getInt(position);
+        if (length < 0) {
+            throw new InvalidDataException("Negative length " + length);
+        }
+        return length;
+    }
+
+    private static int skipElements(ByteBuffer buffer, int position, int count, int elementSize) {
+        final long bytes = (long) count * elementSize;
+        checkAvailable(buffer, position, bytes);
+        return position + (int) bytes;
+    }
+
+    private static void checkAvailable(ByteBuffer buffer, int position, long bytes) {
+        if (bytes > buffer.limit() - position) {
+            throw new InvalidDataException("Length " + bytes + " exceeds the available data");
+        }
+    }
+
+    private void push(byte kind, int count) {
+        if (this.depth == this.kinds.length) {
+            this.kinds = Arrays.copyOf(this.kinds, this.depth * 2);
+            this.remaining = Arrays.copyOf(this.remaining, this.depth * 2);
+        }
+        this.kinds[this.depth] = kind;
+        this.remaining[this.depth] = count;
+        this.depth++;
+    }
+
+    private Token readPayload(byte tag) throws IOException {
+        switch (tag) {
+            case BinaryTags.VIEW:
+                push(BinaryTags.VIEW, 0);
+                return Token.BEGIN_VIEW;
+            case BinaryTags.MAP:
+                push(BinaryTags.MAP, 0);
+                return Token.BEGIN_MAP;
+            case BinaryTags.LIST:
+                push(BinaryTags.LIST, readLength());
+                return Token.BEGIN_LIST;
+            case BinaryTags.BYTE:
+                this.value = readByte();
+                break;
+            case BinaryTags.SHORT:
+                ensure(2);
+                this.value = this.buffer.getShort();
+                break;
+            case BinaryTags.INT:
+                ensure(4);
+                this.value = this.buffer.getInt();
+                break;
+            case BinaryTags.LONG:
+                ensure(8);
+                this.value = this.buffer.getLong();
+                break;
+            case BinaryTags.FLOAT:
+                ensure(4);
+                this.value = this.buffer.getFloat();
+                break;
+            case BinaryTags.DOUBLE:
+                ensure(8);
+                this.value = this.buffer.getDouble();
+                break;
+            case BinaryTags.BOOLEAN:
+                this.value = readByte() != 0;
+                break;
+            case BinaryTags.CHAR:
+                ensure(2);
+                this.value = this.buffer.getChar();
+                break;
+            case BinaryTags.STRING:
+                this.value = readString();
+                break;
+            case BinaryTags.BYTE_ARRAY:
+                this.value = readByteArray();
+                break;
+            case BinaryTags.SHORT_ARRAY:
+                this.value = readShortArray();
+                break;
+            case BinaryTags.INT_ARRAY:
+                this.value = readIntArray();
+                break;
+            case BinaryTags.LONG_ARRAY:
+                this.value = readLongArray();
+                break;
+            case BinaryTags.FLOAT_ARRAY:
+                this.value = readFloatArray();
+                break;
+            case BinaryTags.DOUBLE_ARRAY:
+                this.value = readDoubleArray();
+                break;
+            case BinaryTags.BOOLEAN_ARRAY:
+                this.value = readBooleanArray();
+                break;
+            default:
+                throw new InvalidDataException("Unknown tag " + tag);
+        }
+        return Token.VALUE;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (this.buffer.remaining() >= bytes || this.channel == null) {
+            // Reading past the end of a plain buffer throws BufferUnderflowException
+            return;
+        }
+        this.buffer.compact();
+        while (this.buffer.position() < bytes) {
+            if (this.channel.read(this.buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        this.buffer.flip();
+    }
+
+    private byte readByte() throws IOException {
+        ensure(1);
+        return this.buffer.get();
+    }
+
+    private int readLength() throws IOException {
+        return readLength(1);
+    }
+
+    /**
+     * Reads the length of an array or list and checks it against the data
+     * that can still follow, before anything is allocated for it.
+     *
+     * @param elementSize The minimum number of bytes of every element
+     * @return The length
+     * @throws IOException If the length could not be read or is invalid
+     */
+    private int readLength(int elementSize) throws IOException {
+        ensure(4);
+        final int length = this.buffer.getInt();
+        if (length < 0) {
+            throw new InvalidDataException("Negative length " + length);
+        }
+        final long bytes = (long) length * elementSize;
+        if (this.channel == null ? bytes > this.buffer.remaining() : bytes > MAX_ARRAY_BYTES) {
+            throw new InvalidDataException("Length " + length + " exceeds the available data");
+        }
+        return length;
+    }
+
+    private String readString() throws IOException {
+        return new String(readByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readByteArray() throws IOException {
+        final byte[] array = new byte[readLength(1)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE);
+            ensure(count);
+            this.buffer.get(array, offset, count);
+            offset += count;
+        }
+        return array;
+    }
+
+    private short[] readShortArray() throws IOException {
+        final short[] array = new short[readLength(2)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE / 2);
+            ensure(count * 2);
+            this.buffer.asShortBuffer().get(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 2);
+            offset += count;
+        }
+        return array;
+    }
+
+    private int[] readIntArray() throws IOException {
+        final int[] array = new int[readLength(4)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE / 4);
+            ensure(count * 4);
+            this.buffer.asIntBuffer().get(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 4);
+            offset += count;
+        }
+        return array;
+    }
+
+    private long[] readLongArray() throws IOException {
+        final long[] array = new long[readLength(8)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE / 8);
+            ensure(count * 8);
+            this.buffer.asLongBuffer().get(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 8);
+            offset += count;
+        }
+        return array;
+    }
+
+    private float[] readFloatArray() throws IOException {
+        final float[] array = new float[readLength(4)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE / 4);
+            ensure(count * 4);
+            this.buffer.asFloatBuffer().get(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 4);
+            offset += count;
+        }
+        return array;
+    }
+
+    private double[] readDoubleArray() throws IOException {
+        final double[] array = new double[readLength(8)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE / 8);
+            ensure(count * 8);
+            this.buffer.asDoubleBuffer().get(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 8);
+            offset += count;
+        }
+        return array;
+    }
+
+    private boolean[] readBooleanArray() throws IOException {
+        final boolean[] array = new boolean[readLength(1)];
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, BinaryDataWriter.CHUNK_SIZE);
+            ensure(count);
+            for (int i = offset; i < offset + count; i++) {
+                array[i] = this.buffer.get() != 0;
+            }
+            offset += count;
+        }
+        return array;
+    }
+
+}
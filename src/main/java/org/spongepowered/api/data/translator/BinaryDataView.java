@@ -0,0 +1,348 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.AbstractDataView;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only {@link DataView} backed by data in the binary format of the
+ * {@link BinaryTranslator}.
+ *
+ * <p>Nothing is decoded up front. The first access to a view builds an
+ * index of the offsets of its direct entries, which answers
+ * {@link #getKeys(boolean)} and {@link #contains(DataQuery)}, and values
+ * are only decoded when they are requested. Nested views are indexed the
+ * first time they are walked through.</p>
+ *
+ * <p>As it is read-only, all mutating methods throw an
+ * {@link UnsupportedOperationException}, {@link #copy()} can be used to
+ * obtain a mutable copy. The backing buffer must not be modified while it
+ * is in use.</p>
+ *
+ * <p>Even though it is read-only, this class is not thread-safe. The index
+ * and the nested views are built lazily on first access without any
+ * synchronization, so a view must not be read by several threads at once.
+ * Use {@link #copy()} to share the data between threads.</p>
+ */
+public class BinaryDataView extends AbstractDataView {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    // Built lazily on first access, see the class documentation
+    @Nullable private Map<String, Entry> index;
+    @Nullable private Map<String, BinaryDataView> views;
+
+    BinaryDataView(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    BinaryDataView(BinaryDataView parent, String name, int offset) {
+        super(parent, of(name));
+        this.buffer = parent.buffer;
+        this.offset = offset;
+    }
+
+    private static final class Entry {
+
+        final byte tag;
+        final int position;
+
+        Entry(byte tag, int position) {
+            this.tag = tag;
+            this.position = position;
+        }
+    }
+
+    private Map<String, Entry> getIndex() {
+        if (this.index == null) {
+            final Map<String, Entry> index = Maps.newLinkedHashMap();
+            int position = this.offset;
+            byte tag;
+            while ((tag = BinaryDataReader.getTag(this.buffer, position++)) != BinaryTags.END) {
+                final int length = BinaryDataReader.getLength(this.buffer, position);
+                final String key = new String(readBytes(position + 4, length), StandardCharsets.UTF_8);
+                position += 4 + length;
+                index.put(key, new Entry(tag, position));
+                position = BinaryDataReader.skipPayload(this.buffer, position, tag);
+            }
+            this.index = index;
+        }
+        return this.index;
+    }
+
+    private byte[] readBytes(int position, int length) {
+        if (length < 0 || length > this.buffer.limit() - position) {
+            throw new InvalidDataException("Length " + length + " exceeds the available data");
+        }
+        final byte[] bytes = new byte[length];
+        final ByteBuffer duplicate = this.buffer.duplicate();
+        duplicate.position(position);
+        duplicate.get(bytes);
+        return bytes;
+    }
+
+    private BinaryDataView getChildView(String key, Entry entry) {
+        if (this.views == null) {
+            this.views = Maps.newHashMap();
+        }
+        BinaryDataView view = this.views.get(key);
+        if (view == null) {
+            view = new BinaryDataView(this, key, entry.position);
+            this.views.put(key, view);
+        }
+        return view;
+    }
+
+    /**
+     * Walks down to the view holding the last part of the given path.
+     *
+     * @param parts The non-empty parts of the path
+     * @return The view, or null if the path does not lead to a view
+     */
+    @Nullable
+    private BinaryDataView getHoldingView(List<String> parts) {
+        BinaryDataView view = this;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final Entry entry = view.getIndex().get(parts.get(i));
+            if (entry == null || entry.tag != BinaryTags.VIEW) {
+                return null;
+            }
+            view = view.getChildView(parts.get(i), entry);
+        }
+        return view;
+    }
+
+    @Nullable
+    private Entry getEntry(DataQuery path) {
+        final List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return null;
+        }
+        final BinaryDataView view = getHoldingView(parts);
+        return view == null ? null : view.getIndex().get(parts.get(parts.size() - 1));
+    }
+
+    private Object decode(String key, Entry entry) {
+        if (entry.tag == BinaryTags.VIEW) {
+            return getChildView(key, entry);
+        }
+        final ByteBuffer duplicate = this.buffer.duplicate();
+        duplicate.position(entry.position);
+        final BinaryDataReader reader = new BinaryDataReader(duplicate, entry.tag);
+        try {
+            return BinaryTranslator.readElement(reader, reader.next());
+        } catch (IOException e) {
+            throw new InvalidDataException(e);
+        }
+    }
+
+    /**
+     * Gets a slice of the backing buffer holding the elements of the array
+     * stored at the given path, if it has the given tag.
+     */
+    @Nullable
+    private ByteBuffer getArraySlice(DataQuery path, byte tag, int elementSize) {
+        final Entry entry = getEntry(path);
+        if (entry == null || entry.tag != tag) {
+            return null;
+        }
+        final int start = entry.position + 4;
+        final ByteBuffer duplicate = this.buffer.duplicate();
+        duplicate.limit(start + this.buffer.getInt(entry.position) * elementSize);
+        duplicate.position(start);
+        return duplicate.slice();
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (String key : getIndex().keySet()) {
+            builder.add(of(key));
+        }
+        if (deep) {
+            for (Map.Entry<String, Entry> entry : getIndex().entrySet()) {
+                if (entry.getValue().tag == BinaryTags.VIEW) {
+                    for (DataQuery query : getChildView(entry.getKey(), entry.getValue()).getKeys(true)) {
+                        builder.add(of(entry.getKey()).then(query));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        return getEntry(path) != null;
+    }
+
+    @Override
+    public boolean contains(DataQuery path, DataQuery... paths) {
+        checkNotNull(paths, "DataQuery varargs cannot be null!");
+        if (!contains(path)) {
+            return false;
+        }
+        for (DataQuery query : paths) {
+            if (!contains(checkNotNull(query, "No null queries!"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        final List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return Optional.<Object>of(this);
+        }
+        final BinaryDataView view = getHoldingView(parts);
+        if (view == null) {
+            return Optional.empty();
+        }
+        final String key = parts.get(parts.size() - 1);
+        final Entry entry = view.getIndex().get(key);
+        return entry == null ? Optional.empty() : Optional.of(view.decode(key, entry));
+    }
+
+    @Override
+    protected Map<String, Object> getRawValues() {
+        final Map<String, Object> values = Maps.newLinkedHashMap();
+        for (Map.Entry<String, Entry> entry : getIndex().entrySet()) {
+            values.put(entry.getKey(), decode(entry.getKey(), entry.getValue()));
+        }
+        return values;
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        throw new UnsupportedOperationException("BinaryDataView is read-only, use copy() to obtain a mutable copy");
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "Key was null!").getQuery(), value);
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        throw new UnsupportedOperationException("BinaryDataView is read-only, use copy() to obtain a mutable copy");
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        throw new UnsupportedOperationException("BinaryDataView is read-only, use copy() to obtain a mutable copy");
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        throw new UnsupportedOperationException("BinaryDataView is read-only, use copy() to obtain a mutable copy");
+    }
+
+    @Override
+    public Optional<ByteBuffer> getByteBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.BYTE_ARRAY, 1);
+        return slice == null ? Optional.empty() : Optional.of(slice.asReadOnlyBuffer());
+    }
+
+    @Override
+    public Optional<ShortBuffer> getShortBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.SHORT_ARRAY, 2);
+        return slice == null ? Optional.empty() : Optional.of(slice.asShortBuffer().asReadOnlyBuffer());
+    }
+
+    @Override
+    public Optional<IntBuffer> getIntBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.INT_ARRAY, 4);
+        return slice == null ? Optional.empty() : Optional.of(slice.asIntBuffer().asReadOnlyBuffer());
+    }
+
+    @Override
+    public Optional<LongBuffer> getLongBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.LONG_ARRAY, 8);
+        return slice == null ? Optional.empty() : Optional.of(slice.asLongBuffer().asReadOnlyBuffer());
+    }
+
+    @Override
+    public Optional<FloatBuffer> getFloatBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.FLOAT_ARRAY, 4);
+        return slice == null ? Optional.empty() : Optional.of(slice.asFloatBuffer().asReadOnlyBuffer());
+    }
+
+    @Override
+    public Optional<DoubleBuffer> getDoubleBuffer(DataQuery path) {
+        final ByteBuffer slice = getArraySlice(path, BinaryTags.DOUBLE_ARRAY, 8);
+        return slice == null ? Optional.empty() : Optional.of(slice.asDoubleBuffer().asReadOnlyBuffer());
+    }
+
+    @Override
+    public DataContainer copy() {
+        final ByteBuffer duplicate = this.buffer.duplicate();
+        duplicate.position(this.offset);
+        try {
+            return BinaryTranslator.instance().read(new BinaryDataReader(duplicate, BinaryTags.VIEW));
+        } catch (IOException e) {
+            throw new InvalidDataException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        if (!getCurrentPath().toString().isEmpty()) {
+            helper.add("path", getCurrentPath());
+        }
+        return helper.add("keys", getIndex().keySet()).toString();
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes {@link DataView}s in the binary format of the
+ * {@link BinaryTranslator}, either into a {@link ByteBuffer} or through a
+ * {@link WritableByteChannel}.
+ *
+ * <p>Values are written as the view is traversed, large arrays and strings
+ * are copied in chunks so that the buffer used for a channel never needs to
+ * hold more than a chunk at a time.</p>
+ */
+final class BinaryDataWriter {
+
+    static final int CHUNK_SIZE = 8192;
+
+    @Nullable private final WritableByteChannel channel;
+    private final boolean growable;
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a writer flushing its output to the given channel.
+     *
+     * @param channel The channel to write to
+     */
+    BinaryDataWriter(WritableByteChannel channel) {
+        this.channel = checkNotNull(channel, "channel");
+        this.buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        this.growable = false;
+    }
+
+    /**
+     * Creates a writer writing directly into the given buffer.
+     *
+     * @param buffer The buffer to write into
+     * @param growable Whether the buffer may be replaced by a bigger one
+     *     once it is full, otherwise a
+     *     {@link java.nio.BufferOverflowException} is thrown
+     */
+    BinaryDataWriter(ByteBuffer buffer, boolean growable) {
+        this.channel = null;
+        this.buffer = checkNotNull(buffer, "buffer");
+        this.growable = growable;
+    }
+
+    /**
+     * Gets the buffer holding the written data. This may not be the buffer
+     * the writer was created with if it was allowed to grow.
+     *
+     * @return The buffer
+     */
+    ByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Writes the given view as a root entry.
+     *
+     * @param view The view to write
+     * @throws IOException If the channel could not be written to
+     */
+    void writeRoot(DataView view) throws IOException {
+        ensure(1);
+        this.buffer.put(BinaryTags.VIEW);
+        writeViewBody(view);
+    }
+
+    /**
+     * Writes any buffered data to the channel, if there is one.
+     *
+     * @throws IOException If the channel could not be written to
+     */
+    void flush() throws IOException {
+        if (this.channel == null) {
+            return;
+        }
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (this.buffer.remaining() >= bytes) {
+            return;
+        }
+        if (this.channel != null) {
+            flush();
+        } else if (this.growable) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes));
+            this.buffer.flip();
+            grown.put(this.buffer);
+            this.buffer = grown;
+        }
+        // A fixed buffer is left as is, the following put will overflow
+    }
+
+    private void writeViewBody(DataView view) throws IOException {
+        for (DataQuery key : view.getKeys(false)) {
+            writeEntry(key.asString('.'), view.get(key).get());
+        }
+        ensure(1);
+        this.buffer.put(BinaryTags.END);
+    }
+
+    private void writeMapBody(Map<?, ?> map) throws IOException {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeEntry(entry.getKey().toString(), entry.getValue());
+        }
+        ensure(1);
+        this.buffer.put(BinaryTags.END);
+    }
+
+    private void writeEntry(String key, Object value) throws IOException {
+        final byte tag = getTag(value);
+        ensure(1);
+        this.buffer.put(tag);
+        writeString(key);
+        writePayload(tag, value);
+    }
+
+    private static byte getTag(Object value) {
+        if (value instanceof DataView || value instanceof DataSerializable) {
+            return BinaryTags.VIEW;
+        } else if (value instanceof Map) {
+            return BinaryTags.MAP;
+        } else if (value instanceof Collection || value instanceof Object[]) {
+            return BinaryTags.LIST;
+        } else if (value instanceof Byte) {
+            return BinaryTags.BYTE;
+        } else if (value instanceof Short) {
+            return BinaryTags.SHORT;
+        } else if (value instanceof Integer) {
+            return BinaryTags.INT;
+        } else if (value instanceof Long) {
+            return BinaryTags.LONG;
+        } else if (value instanceof Float) {
+            return BinaryTags.FLOAT;
+        } else if (value instanceof Double) {
+            return BinaryTags.DOUBLE;
+        } else if (value instanceof Boolean) {
+            return BinaryTags.BOOLEAN;
+        } else if (value instanceof Character) {
+            return BinaryTags.CHAR;
+        } else if (value instanceof String) {
+            return BinaryTags.STRING;
+        } else if (value instanceof byte[]) {
+            return BinaryTags.BYTE_ARRAY;
+        } else if (value instanceof short[]) {
+            return BinaryTags.SHORT_ARRAY;
+        } else if (value instanceof int[]) {
+            return BinaryTags.INT_ARRAY;
+        } else if (value instanceof long[]) {
+            return BinaryTags.LONG_ARRAY;
+        } else if (value instanceof float[]) {
+            return BinaryTags.FLOAT_ARRAY;
+        } else if (value instanceof double[]) {
+            return BinaryTags.DOUBLE_ARRAY;
+        } else if (value instanceof boolean[]) {
+            return BinaryTags.BOOLEAN_ARRAY;
+        }
+        throw new InvalidDataException("Unsupported value type: " + value.getClass().getName());
+    }
+
+    private void writePayload(byte tag, Object value) throws IOException {
+        switch (tag) {
+            case BinaryTags.VIEW:
+                writeViewBody(value instanceof DataView ? (DataView) value : ((DataSerializable) value).toContainer());
+                break;
+            case BinaryTags.MAP:
+                writeMapBody((Map<?, ?>) value);
+                break;
+            case BinaryTags.LIST:
+                writeList(value instanceof Object[] ? (Object[]) value : ((Collection<?>) value).toArray());
+                break;
+            case BinaryTags.BYTE:
+                ensure(1);
+                this.buffer.put((Byte) value);
+                break;
+            case BinaryTags.SHORT:
+                ensure(2);
+                this.buffer.putShort((Short) value);
+                break;
+            case BinaryTags.INT:
+                ensure(4);
+                this.buffer.putInt((Integer) value);
+                break;
+            case BinaryTags.LONG:
+                ensure(8);
+                this.buffer.putLong((Long) value);
+                break;
+            case BinaryTags.FLOAT:
+                ensure(4);
+                this.buffer.putFloat((Float) value);
+                break;
+            case BinaryTags.DOUBLE:
+                ensure(8);
+                this.buffer.putDouble((Double) value);
+                break;
+            case BinaryTags.BOOLEAN:
+                ensure(1);
+                this.buffer.put((Boolean) value ? (byte) 1 : (byte) 0);
+                break;
+            case BinaryTags.CHAR:
+                ensure(2);
+                this.buffer.putChar((Character) value);
+                break;
+            case BinaryTags.STRING:
+                writeString((String) value);
+                break;
+            case BinaryTags.BYTE_ARRAY:
+                writeByteArray((byte[]) value);
+                break;
+            case BinaryTags.SHORT_ARRAY:
+                writeShortArray((short[]) value);
+                break;
+            case BinaryTags.INT_ARRAY:
+                writeIntArray((int[]) value);
+                break;
+            case BinaryTags.LONG_ARRAY:
+                writeLongArray((long[]) value);
+                break;
+            case BinaryTags.FLOAT_ARRAY:
+                writeFloatArray((float[]) value);
+                break;
+            case BinaryTags.DOUBLE_ARRAY:
+                writeDoubleArray((double[]) value);
+                break;
+            case BinaryTags.BOOLEAN_ARRAY:
+                writeBooleanArray((boolean[]) value);
+                break;
+            default:
+                throw new IllegalStateException("Unknown tag " + tag);
+        }
+    }
+
+    private void writeList(Object[] elements) throws IOException {
+        ensure(4);
+        this.buffer.putInt(elements.length);
+        for (Object element : elements) {
+            final byte tag = getTag(element);
+            ensure(1);
+            this.buffer.put(tag);
+            writePayload(tag, element);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        writeByteArray(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeByteArray(byte[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE);
+            ensure(count);
+            this.buffer.put(array, offset, count);
+            offset += count;
+        }
+    }
+
+    private void writeShortArray(short[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE / 2);
+            ensure(count * 2);
+            this.buffer.asShortBuffer().put(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 2);
+            offset += count;
+        }
+    }
+
+    private void writeIntArray(int[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE / 4);
+            ensure(count * 4);
+            this.buffer.asIntBuffer().put(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 4);
+            offset += count;
+        }
+    }
+
+    private void writeLongArray(long[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE / 8);
+            ensure(count * 8);
+            this.buffer.asLongBuffer().put(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 8);
+            offset += count;
+        }
+    }
+
+    private void writeFloatArray(float[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE / 4);
+            ensure(count * 4);
+            this.buffer.asFloatBuffer().put(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 4);
+            offset += count;
+        }
+    }
+
+    private void writeDoubleArray(double[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE / 8);
+            ensure(count * 8);
+            this.buffer.asDoubleBuffer().put(array, offset, count);
+            this.buffer.position(this.buffer.position() + count * 8);
+            offset += count;
+        }
+    }
+
+    private void writeBooleanArray(boolean[] array) throws IOException {
+        ensure(4);
+        this.buffer.putInt(array.length);
+        for (int offset = 0; offset < array.length; ) {
+            final int count = Math.min(array.length - offset, CHUNK_SIZE);
+            ensure(count);
+            for (int i = offset; i < offset + count; i++) {
+                this.buffer.put(array[i] ? (byte) 1 : (byte) 0);
+            }
+            offset += count;
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+/**
+ * The tags identifying the type of each value written by the
+ * {@link BinaryTranslator}.
+ */
+final class BinaryTags {
+
+    static final byte END = 0;
+    static final byte VIEW = 1;
+    static final byte LIST = 2;
+    static final byte MAP = 3;
+    static final byte BYTE = 4;
+    static final byte SHORT = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    static final byte BOOLEAN = 10;
+    static final byte CHAR = 11;
+    static final byte STRING = 12;
+    static final byte BYTE_ARRAY = 13;
+    static final byte SHORT_ARRAY = 14;
+    static final byte INT_ARRAY = 15;
+    static final byte LONG_ARRAY = 16;
+    static final byte FLOAT_ARRAY = 17;
+    static final byte DOUBLE_ARRAY = 18;
+    static final byte BOOLEAN_ARRAY = 19;
+    static final byte OBJECT_ARRAY = 20;
+
+    private BinaryTags() {
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.translator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A translator for translating {@link DataView}s into a compact binary
+ * representation.
+ *
+ * <p>Unlike the {@link ConfigurateTranslator}, no intermediate tree is
+ * built: views are written directly into a {@link ByteBuffer} or
+ * {@link WritableByteChannel} as they are traversed, and can be read back
+ * either into a {@link DataContainer} or incrementally through a
+ * {@link BinaryDataReader}.</p>
+ *
+ * <p>All values supported by {@link MemoryDataContainer} are supported,
+ * including primitive arrays, nested lists and maps held in lists. Object
+ * arrays are read back as lists, and map keys as strings.</p>
+ */
+public final class BinaryTranslator implements DataTranslator<ByteBuffer> {
+
+    private static final BinaryTranslator instance = new BinaryTranslator();
+
+    private BinaryTranslator() {
+    }
+
+    /**
+     * Get the instance of this translator.
+     *
+     * @return The instance of this translator
+     */
+    public static BinaryTranslator instance() {
+        return instance;
+    }
+
+    /**
+     * Writes the given {@link DataView} to the given channel.
+     *
+     * @param container The container of data to write
+     * @param channel The channel to write to
+     * @throws IOException If the channel could not be written to
+     */
+    public void write(DataView container, WritableByteChannel channel) throws IOException {
+        checkNotNull(container, "container");
+        final BinaryDataWriter writer = new BinaryDataWriter(channel);
+        writer.writeRoot(container);
+        writer.flush();
+    }
+
+    /**
+     * Reads a {@link DataContainer} from the given channel.
+     *
+     * @param channel The channel to read from
+     * @return The newly created container
+     * @throws IOException If the channel could not be read from
+     * @throws InvalidDataException If the data is malformed
+     */
+    public DataContainer read(ReadableByteChannel channel) throws IOException {
+        return read(new BinaryDataReader(channel));
+    }
+
+    /**
+     * Reads the root view of the given reader into a new
+     * {@link DataContainer}. The reader must not have been advanced yet.
+     *
+     * @param reader The reader to read from
+     * @return The newly created container
+     * @throws IOException If the underlying data could not be read
+     * @throws InvalidDataException If the data is malformed
+     */
+    public DataContainer read(BinaryDataReader reader) throws IOException {
+        checkNotNull(reader, "reader");
+        if (reader.next() != BinaryDataReader.Token.BEGIN_VIEW) {
+            throw new InvalidDataException("Expected a root view");
+        }
+        final DataContainer container = new MemoryDataContainer();
+        readView(reader, container);
+        return container;
+    }
+
+    /**
+     * Creates a {@link DataContainer} backed by the binary data held in the
+     * given buffer, starting at its current position.
+     *
+     * <p>Unlike {@link #translateFrom(ByteBuffer)}, nothing is decoded up
+     * front. See {@link BinaryDataContainer} for details, this is well
+     * suited to a {@link java.nio.MappedByteBuffer} of a file of which only
+     * a few entries are needed.</p>
+     *
+     * @param buffer The buffer holding the data
+     * @return The lazily decoded container
+     * @throws InvalidDataException If the buffer does not hold a view
+     */
+    public DataContainer translateLazily(ByteBuffer buffer) {
+        return new BinaryDataContainer(buffer);
+    }
+
+    static void readView(BinaryDataReader reader, DataView view) throws IOException {
+        BinaryDataReader.Token token;
+        while ((token = reader.next()) != BinaryDataReader.Token.END_VIEW) {
+            final DataQuery key = of(reader.getKey());
+            switch (token) {
+                case BEGIN_VIEW:
+                    readView(reader, view.createView(key));
+                    break;
+                case BEGIN_MAP:
+                    view.set(key, readMap(reader));
+                    break;
+                case BEGIN_LIST:
+                    view.set(key, readList(reader));
+                    break;
+                case VALUE:
+                    view.set(key, reader.getValue());
+                    break;
+                default:
+                    throw new InvalidDataException("Unexpected " + token + " within a view");
+            }
+        }
+    }
+
+    private static Map<String, Object> readMap(BinaryDataReader reader) throws IOException {
+        final Map<String, Object> map = Maps.newLinkedHashMap();
+        BinaryDataReader.Token token;
+        while ((token = reader.next()) != BinaryDataReader.Token.END_MAP) {
+            map.put(reader.getKey(), readElement(reader, token));
+        }
+        return map;
+    }
+
+    private static List<Object> readList(BinaryDataReader reader) throws IOException {
+        final List<Object> list = Lists.newArrayList();
+        BinaryDataReader.Token token;
+        while ((token = reader.next()) != BinaryDataReader.Token.END_LIST) {
+            list.add(readElement(reader, token));
+        }
+        return list;
+    }
+
+    static Object readElement(BinaryDataReader reader, BinaryDataReader.Token token) throws IOException {
+        switch (token) {
+            case BEGIN_VIEW:
+                final DataContainer container = new MemoryDataContainer();
+                readView(reader, container);
+                return container;
+            case BEGIN_MAP:
+                return readMap(reader);
+            case BEGIN_LIST:
+                return readList(reader);
+            case VALUE:
+                return reader.getValue();
+            default:
+                throw new InvalidDataException("Unexpected " + token);
+        }
+    }
+
+    @Override
+    public ByteBuffer translateData(DataView container) {
+        checkNotNull(container, "container");
+        final BinaryDataWriter writer = new BinaryDataWriter(ByteBuffer.allocate(BinaryDataWriter.CHUNK_SIZE), true);
+        try {
+            writer.writeRoot(container);
+        } catch (IOException e) {
+            throw new InvalidDataException(e);
+        }
+        final ByteBuffer buffer = writer.getBuffer();
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The data is written at the current position of the buffer. If the
+     * buffer is too small a {@link java.nio.BufferOverflowException} is
+     * thrown.</p>
+     */
+    @Override
+    public void translateContainerToData(ByteBuffer node, DataView container) {
+        checkNotNull(container, "container");
+        try {
+            new BinaryDataWriter(node, false).writeRoot(container);
+        } catch (IOException e) {
+            throw new InvalidDataException(e);
+        }
+    }
+
+    @Override
+    public DataView translateFrom(ByteBuffer node) {
+        try {
+            return read(new BinaryDataReader(node));
+        } catch (IOException | BufferUnderflowException e) {
+            // A truncated buffer is malformed like any other invalid input
+            throw new InvalidDataException(e);
+        }
+    }
+
+}
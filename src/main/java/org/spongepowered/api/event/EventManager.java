@@ -28,6 +28,9 @@
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.timing.EventTimings;
+
+import java.util.Optional;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -121,4 +124,15 @@ <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Orde
      */
     boolean post(Event event);
 
+    /**
+     * Gets the {@link EventTimings} recording how long the registered
+     * listeners take to handle the posted events, if this event manager
+     * supports timings.
+     *
+     * @return The event timings, if supported
+     */
+    default Optional<EventTimings> getTimings() {
+        return Optional.empty();
+    }
+
 }
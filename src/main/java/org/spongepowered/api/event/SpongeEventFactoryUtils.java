@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.event;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -34,14 +36,25 @@
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.event.game.state.GameStateEvent;
 import org.spongepowered.api.eventgencore.classwrapper.reflection.ReflectionUtils;
+import org.spongepowered.api.util.event.factory.ClassGenerator;
 import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
 import org.spongepowered.api.util.event.factory.EventFactory;
+import org.spongepowered.api.util.event.factory.EventPool;
 import org.spongepowered.api.util.event.factory.NullPolicy;
+import org.spongepowered.api.util.event.factory.PositionalEventFactory;
+import org.spongepowered.api.util.event.factory.ResettableEventFactory;
 import org.spongepowered.api.util.event.factory.plugin.AccessorModifierEventFactoryPlugin;
 import org.spongepowered.api.util.event.factory.plugin.EventFactoryPlugin;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A class to hold the logic for {@link SpongeEventFactory}
@@ -82,6 +95,46 @@ public static <T> T createEventImpl(Class<T> type, Map<String, Object> values) {
         return (T) factories.getUnchecked(type).apply(values);
     }
 
+    /**
+     * Gets the {@link PositionalEventFactory} of an event interface, which
+     * creates events from property values passed in order instead of through
+     * a map.
+     *
+     * <p>Frequently created events should resolve their factory once and
+     * keep it in a {@code static final} field, for example:</p>
+     *
+     * <pre>{@code
+     * private static final PositionalEventFactory<CollideEvent> COLLIDE =
+     *         SpongeEventFactoryUtils.getPositionalFactory(CollideEvent.class);
+     *
+     * CollideEvent event = COLLIDE.create(cause);
+     * }</pre>
+     *
+     * @param type The event interface to get the factory for
+     * @param <T> The type of event to be created
+     * @return The factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PositionalEventFactory<T> getPositionalFactory(Class<T> type) {
+        // Generated factories implement both of the factory interfaces
+        return (PositionalEventFactory<T>) factories.getUnchecked(type);
+    }
+
+    /**
+     * Creates a new {@link EventPool} for an event interface annotated with
+     * {@link Reusable}, which reuses the instances of the event per thread.
+     *
+     * @param type The event interface to create the pool for
+     * @param <T> The type of event to be created
+     * @return The pool
+     * @throws IllegalArgumentException If the event is not reusable
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EventPool<T> createEventPool(Class<T> type) {
+        checkArgument(ClassGenerator.isReusable(type), "The event %s is not @Reusable", type.getName());
+        return new EventPool<>((ResettableEventFactory<T>) factories.getUnchecked(type));
+    }
+
     /**
      * Creates a new {@link GameStateEvent} of the given type.
      *
@@ -97,4 +150,30 @@ public static <T extends GameStateEvent> T createState(Class<T> type, Game game)
         return SpongeEventFactoryUtils.createEventImpl(type, values);
     }
 
+    /**
+     * Generates the implementations and factories of all events created by
+     * {@link SpongeEventFactory}, writing their class files to the directory
+     * given as the only argument. Once they are on the class path, creating
+     * an event no longer generates any classes at runtime.
+     *
+     * <p>This is run by the {@code precompileEventImpl} build task.</p>
+     *
+     * @param args The output directory
+     * @throws IOException If the class files could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length == 1, "Usage: SpongeEventFactoryUtils <output directory>");
+        Path outputDirectory = Paths.get(args[0]);
+
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Method method : SpongeEventFactory.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers())) {
+                types.add(method.getReturnType());
+            }
+        }
+        for (Class<?> type : types) {
+            factoryProvider.precompile(type, ReflectionUtils.getBaseClass(type).getActualClass(), plugins, outputDirectory);
+        }
+    }
+
 }
@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Reusable;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.world.TargetWorldEvent;
 import org.spongepowered.api.world.Location;
@@ -45,6 +46,7 @@
  * Base event for when {@link BlockState}s at {@link Location<World>}s are being
  * changed.
  */
+@Reusable
 public interface ChangeBlockEvent extends TargetWorldEvent, Cancellable {
 
     /**
@@ -30,6 +30,8 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.cause.entity.damage.source.DamageSource;
@@ -42,10 +44,12 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
@@ -258,17 +262,29 @@ public static Cause ofNullable(Object[] objects) {
     }
 
     private static Cause fromList(List<NamedCause> causes) {
-        final List<String> nameList = new ArrayList<>();
-        for (NamedCause cause : causes) {
-            if (!nameList.contains(cause.getName())) {
-                nameList.add(cause.getName());
-            } else {
-                throw new IllegalArgumentException("A named cause already exists with the name: " + cause.getName());
+        final Object[] objects = new Object[causes.size()];
+        final String[] names = new String[causes.size()];
+        for (int index = 0; index < objects.length; index++) {
+            NamedCause aCause = causes.get(index);
+            checkNotNull(aCause, "Null cause element!");
+            objects[index] = aCause.getCauseObject();
+            names[index] = aCause.getName();
+        }
+        return fromArrays(objects, names);
+    }
+
+    private static Cause fromArrays(Object[] objects, String[] names) {
+        final Set<String> nameSet = Sets.newHashSetWithExpectedSize(names.length);
+        for (String name : names) {
+            if (!nameSet.add(name)) {
+                throw new IllegalArgumentException("A named cause already exists with the name: " + name);
             }
         }
-        return new Cause(causes.toArray(new NamedCause[causes.size()]));
+        return new Cause(objects, names);
     }
 
+    private static final int[] NO_INDICES = new int[0];
+
     private final Object[] cause;
     private final String[] names;
     private final ImmutableList<Object> immutableCauses;
@@ -276,22 +292,51 @@ private static Cause fromList(List<NamedCause> causes) {
 
     // lazy load
     @Nullable private Map<String, Object> namedObjectMap;
+    // lazy load, the indices of the objects which are instances of each
+    // queried class, and the index of the first object of each name
+    @Nullable private volatile ConcurrentMap<Class<?>, int[]> typeIndices;
+    @Nullable private volatile Map<String, Integer> nameIndices;
 
-    private Cause(NamedCause[] causes) {
+    private Cause(Object[] objects, String[] names) {
         // basically, no validation, all the validation should take place calling this constructor
-        final Object[] objects = new Object[causes.length];
-        final String[] names = new String[causes.length];
-        for (int index = 0; index < causes.length; index++) {
-            NamedCause aCause = causes[index];
-            checkNotNull(aCause, "Null cause element!");
-            objects[index] = aCause.getCauseObject();
-            names[index] = aCause.getName();
-        }
         this.cause = objects;
         this.names = names;
         this.immutableCauses = ImmutableList.copyOf(this.cause);
     }
 
+    private int[] indicesOf(Class<?> target) {
+        ConcurrentMap<Class<?>, int[]> typeIndices = this.typeIndices;
+        if (typeIndices == null) {
+            this.typeIndices = typeIndices = Maps.newConcurrentMap();
+        }
+        int[] indices = typeIndices.get(target);
+        if (indices == null) {
+            int count = 0;
+            indices = new int[this.cause.length];
+            for (int i = 0; i < this.cause.length; i++) {
+                if (target.isInstance(this.cause[i])) {
+                    indices[count++] = i;
+                }
+            }
+            indices = count == 0 ? NO_INDICES : Arrays.copyOf(indices, count);
+            typeIndices.put(target, indices);
+        }
+        return indices;
+    }
+
+    private int indexOf(String named) {
+        Map<String, Integer> nameIndices = this.nameIndices;
+        if (nameIndices == null) {
+            nameIndices = Maps.newHashMapWithExpectedSize(this.names.length);
+            for (int i = 0; i < this.names.length; i++) {
+                nameIndices.putIfAbsent(this.names[i].toLowerCase(Locale.ENGLISH), i);
+            }
+            this.nameIndices = nameIndices;
+        }
+        Integer index = nameIndices.get(named.toLowerCase(Locale.ENGLISH));
+        return index == null ? -1 : index;
+    }
+
     /**
      * Gets the root {@link Object} of this cause. The root can be anything,
      * including but not limited to: {@link DamageSource}, {@link Entity},
@@ -312,12 +357,8 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -329,12 +370,8 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -349,14 +386,9 @@ public <T> Optional<T> last(Class<T> target) {
     public <T> Optional<T> get(String named, Class<T> expected) {
         checkArgument(named != null, "The name cannot be null!");
         checkArgument(expected != null, "The expected class cannot be null!");
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named)) {
-                final Object object = this.cause[i];
-                if (expected.isInstance(object)) {
-                    return Optional.of((T) object);
-                }
-                return Optional.empty();
-            }
+        final int index = indexOf(named);
+        if (index >= 0 && expected.isInstance(this.cause[index])) {
+            return Optional.of((T) this.cause[index]);
         }
         return Optional.empty();
     }
@@ -373,9 +405,10 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
+        final int[] indices = indicesOf(clazz);
+        for (int index : indices) {
+            if (index > 0) {
+                return Optional.of(this.cause[index - 1]);
             }
         }
         return Optional.empty();
@@ -390,20 +423,8 @@ public Optional<?> before(Class<?> clazz) {
      */
     public Optional<?> before(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        if (this.cause.length == 1) {
-            return Optional.empty();
-        }
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named)) {
-                try {
-                    final Object object = this.cause[i - 1];
-                    return Optional.of(object);
-                } catch (Exception e) {
-                    return Optional.empty();
-                }
-            }
-        }
-        return Optional.empty();
+        final int index = indexOf(named);
+        return index > 0 ? Optional.of(this.cause[index - 1]) : Optional.empty();
     }
 
     /**
@@ -418,10 +439,9 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = indicesOf(clazz);
+        if (indices.length > 0 && indices[0] + 1 < this.cause.length) {
+            return Optional.of(this.cause[indices[0] + 1]);
         }
         return Optional.empty();
     }
@@ -434,20 +454,8 @@ public Optional<?> after(Class<?> clazz) {
      */
     public Optional<?> after(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        if (this.cause.length == 1) {
-            return Optional.empty();
-        }
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named) && i + 1 < this.cause.length) {
-                try {
-                    final Object object = this.cause[i + 1];
-                    return Optional.of(object);
-                } catch (Exception e) {
-                    return Optional.empty();
-                }
-            }
-        }
-        return Optional.empty();
+        final int index = indexOf(named);
+        return index >= 0 && index + 1 < this.cause.length ? Optional.of(this.cause[index + 1]) : Optional.empty();
     }
 
     /**
@@ -457,13 +465,7 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return indicesOf(target).length > 0;
     }
 
     /**
@@ -491,12 +493,7 @@ public boolean contains(Object object) {
      */
     public boolean containsNamed(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        for (String name : this.names) {
-            if (name.equalsIgnoreCase(named)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(named) >= 0;
     }
 
     /**
@@ -509,10 +506,8 @@ public boolean containsNamed(String named) {
      */
     public <T> List<T> allOf(Class<T> target) {
         ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        for (int index : indicesOf(target)) {
+            builder.add((T) this.cause[index]);
         }
         return builder.build();
     }
@@ -570,19 +565,21 @@ public Cause with(Object additional, Object... additionals) {
      * @return The new cause
      */
     public Cause with(Iterable<?> iterable) {
-        List<NamedCause> list = new ArrayList<>();
-        for (int i = 0; i < this.cause.length; i++) {
-            list.add(NamedCause.of(this.names[i], this.cause[i]));
-        }
+        List<Object> objects = new ArrayList<>(this.cause.length + 1);
+        List<String> names = new ArrayList<>(this.cause.length + 1);
+        Collections.addAll(objects, this.cause);
+        Collections.addAll(names, this.names);
         for (Object o : iterable) {
             checkArgument(o != null, "Cannot add null causes");
             if (o instanceof NamedCause) {
-                list.add((NamedCause) o);
+                objects.add(((NamedCause) o).getCauseObject());
+                names.add(((NamedCause) o).getName());
             } else {
-                list.add(NamedCause.of("unknown" + (list.size() + 1) + o.getClass().getSimpleName(), o));
+                objects.add(o);
+                names.add("unknown" + (names.size() + 1) + o.getClass().getSimpleName());
             }
         }
-        return fromList(list);
+        return fromArrays(objects.toArray(), names.toArray(new String[names.size()]));
     }
 
     /**
@@ -594,27 +591,26 @@ public Cause with(Iterable<?> iterable) {
      * @return The new merged cause
      */
     public Cause merge(Cause cause) {
-        List<String> names = new ArrayList<>();
-        List<NamedCause> causes = new ArrayList<>();
-        for (int i = 0; i < this.cause.length; i++) {
-            causes.add(NamedCause.of(this.names[i], this.cause[i]));
-            names.add(this.names[i]);
-        }
+        final int length = this.cause.length + cause.cause.length;
+        final Object[] objects = Arrays.copyOf(this.cause, length);
+        final String[] names = Arrays.copyOf(this.names, length);
+        System.arraycopy(cause.cause, 0, objects, this.cause.length, cause.cause.length);
+        final Set<String> nameSet = Sets.newHashSet(this.names);
         int iteration = 1;
         for (int i = 0; i < cause.cause.length; i++) {
             String name = cause.names[i].equalsIgnoreCase("Source")
                           ? "AdditionalSource" : cause.names[i].equalsIgnoreCase("AdditionalSource")
                                                  ? "PreviousSource" : cause.names[i];
-            if (names.contains(name)) {
+            if (nameSet.contains(name)) {
                 name += iteration++;
             }
-            if (!names.contains(name)) {
-                causes.add(NamedCause.of(name, cause.cause[i]));
+            if (!nameSet.contains(name)) {
+                names[this.cause.length + i] = name;
             } else {
                 throw new IllegalArgumentException("Cannot have duplicate names of objects in a cause! Duplicate found: " + cause.names[i]);
             }
         }
-        return fromList(causes);
+        return fromArrays(objects, names);
     }
 
     /**
@@ -30,6 +30,7 @@
 import org.spongepowered.api.entity.living.Living;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Reusable;
 import org.spongepowered.api.event.entity.living.TargetLivingEvent;
 import org.spongepowered.api.event.entity.living.humanoid.TargetHumanoidEvent;
 import org.spongepowered.api.event.entity.living.humanoid.player.TargetPlayerEvent;
@@ -72,6 +73,7 @@ public interface DisplaceEntityEvent extends TargetEntityEvent, Cancellable {
      * An event where the {@link #getTargetEntity()} is moving. This can
      * either be due to AI or client control
      */
+    @Reusable
     interface Move extends DisplaceEntityEvent {
 
         /**
@@ -0,0 +1,58 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.filter;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+
+import java.lang.reflect.Method;
+
+/**
+ * Compiles a {@link Listener} method, along with the filters declared on it
+ * and its parameters by the annotations of this package, into a single
+ * {@link EventListener}.
+ *
+ * <p>The compiled listener checks the filters and resolves the parameters
+ * from the {@link Event#getCause() cause} of each event inline, and then
+ * calls the method directly, so that dispatching an event to it does not
+ * need any reflection.</p>
+ */
+public interface FilteredListenerCompiler {
+
+    /**
+     * Compiles the given listener method.
+     *
+     * @param listener The object the method is called on
+     * @param method The listener method, taking the event as its first
+     *     parameter
+     * @return The compiled listener, which only calls the method for the
+     *     events passing all of its filters
+     * @throws IllegalArgumentException If the method or its filters are
+     *     invalid
+     */
+    EventListener<Event> compile(Object listener, Method method);
+
+}
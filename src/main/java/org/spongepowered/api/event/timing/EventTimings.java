@@ -0,0 +1,210 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.timing;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.ServiceManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records how much time, and optionally how much memory, the event listeners
+ * take to handle each type of event.
+ *
+ * <p>An {@link EventManager} supporting timings hands its listeners to
+ * the {@link ListenerTimer} obtained from {@link #getTimer(PluginContainer,
+ * EventListener, String)} and registers this class with the
+ * {@link ServiceManager},
+ * so that the recorded timings can be queried through
+ * {@link #getTimings()}. Nothing is recorded until the timings are enabled,
+ * and a disabled timer only checks a single volatile flag before calling
+ * the listener.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class EventTimings {
+
+    private static final boolean allocationTrackingSupported = isAllocationProbeAvailable();
+
+    private static boolean isAllocationProbeAvailable() {
+        try {
+            // Only load the probe if the JDK specific bean exists at all
+            Class.forName("com.sun.management.ThreadMXBean");
+            return AllocationProbe.threadBean != null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private final ConcurrentMap<EventListener<?>, ListenerTimer> timers = new MapMaker().weakKeys().makeMap();
+    volatile boolean enabled;
+    volatile boolean trackAllocations;
+
+    /**
+     * Gets whether the timings are currently recorded.
+     *
+     * @return Whether the timings are enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Sets whether the timings should be recorded. Disabling the timings
+     * keeps what was recorded so far.
+     *
+     * @param enabled Whether the timings are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets whether the memory allocated by the current thread can be
+     * measured by this virtual machine.
+     *
+     * @return Whether allocations can be tracked
+     */
+    public boolean isAllocationTrackingSupported() {
+        return allocationTrackingSupported;
+    }
+
+    /**
+     * Gets whether the memory allocated by the listeners is recorded along
+     * with their timings.
+     *
+     * @return Whether allocations are tracked
+     */
+    public boolean isTrackingAllocations() {
+        return this.trackAllocations;
+    }
+
+    /**
+     * Sets whether the memory allocated by the listeners should be recorded
+     * along with their timings. Measuring allocations has a cost of its own,
+     * so it is disabled by default.
+     *
+     * @param trackAllocations Whether allocations are tracked
+     * @throws IllegalStateException If allocations cannot be tracked by this
+     *     virtual machine
+     */
+    public void setTrackAllocations(boolean trackAllocations) {
+        checkState(!trackAllocations || isAllocationTrackingSupported(), "Allocation tracking is not supported");
+        this.trackAllocations = trackAllocations;
+    }
+
+    /**
+     * Gets the timer of a registered listener, creating it if necessary.
+     * Timers are dropped along with their listener once it is no longer
+     * referenced.
+     *
+     * @param plugin The plugin which registered the listener
+     * @param listener The listener
+     * @param name The name of the listener in the timings, such as the name
+     *     of its method
+     * @return The timer of the listener
+     */
+    public ListenerTimer getTimer(PluginContainer plugin, EventListener<?> listener, String name) {
+        checkNotNull(plugin, "plugin");
+        checkNotNull(listener, "listener");
+        checkNotNull(name, "name");
+        ListenerTimer timer = this.timers.get(listener);
+        if (timer == null) {
+            ListenerTimer newTimer = new ListenerTimer(this, plugin, name);
+            timer = this.timers.putIfAbsent(listener, newTimer);
+            if (timer == null) {
+                timer = newTimer;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Gets a snapshot of the timings recorded for every listener and every
+     * type of event it handled.
+     *
+     * @return The recorded timings
+     */
+    public List<ListenerTimings> getTimings() {
+        ImmutableList.Builder<ListenerTimings> timings = ImmutableList.builder();
+        for (ListenerTimer timer : this.timers.values()) {
+            timer.collect(timings);
+        }
+        return timings.build();
+    }
+
+    /**
+     * Discards all of the timings recorded so far.
+     */
+    public void reset() {
+        for (ListenerTimer timer : this.timers.values()) {
+            timer.reset();
+        }
+    }
+
+    static long getAllocatedBytes() {
+        return allocationTrackingSupported ? AllocationProbe.getAllocatedBytes() : 0;
+    }
+
+    /**
+     * Holds the JDK specific thread bean, so that it is only linked once it
+     * is known to exist.
+     */
+    private static final class AllocationProbe {
+
+        @Nullable static final com.sun.management.ThreadMXBean threadBean = findThreadBean();
+
+        @Nullable
+        private static com.sun.management.ThreadMXBean findThreadBean() {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (threadBean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+                return (com.sun.management.ThreadMXBean) threadBean;
+            }
+            return null;
+        }
+
+        static long getAllocatedBytes() {
+            return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        private AllocationProbe() {
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.timing;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the timings of a single registered {@link EventListener}, for each
+ * class of event it handles.
+ *
+ * @see EventTimings
+ */
+public final class ListenerTimer {
+
+    private final EventTimings timings;
+    private final PluginContainer plugin;
+    private final String name;
+    private final ConcurrentMap<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    ListenerTimer(EventTimings timings, PluginContainer plugin, String name) {
+        this.timings = timings;
+        this.plugin = plugin;
+        this.name = name;
+    }
+
+    /**
+     * Calls the listener this timer belongs to, recording its timings if
+     * they are enabled.
+     *
+     * @param listener The listener this timer was created for
+     * @param event The event to handle
+     * @param <T> The type of the event
+     * @throws Exception If the listener throws an exception
+     */
+    public <T extends Event> void handle(EventListener<? super T> listener, T event) throws Exception {
+        if (!this.timings.enabled) {
+            listener.handle(event);
+            return;
+        }
+
+        final boolean trackAllocations = this.timings.trackAllocations;
+        final long allocated = trackAllocations ? EventTimings.getAllocatedBytes() : 0;
+        final long start = System.nanoTime();
+        try {
+            listener.handle(event);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            Counter counter = this.counters.get(event.getClass());
+            if (counter == null) {
+                counter = this.counters.computeIfAbsent(event.getClass(), type -> new Counter());
+            }
+            counter.record(nanos, trackAllocations ? EventTimings.getAllocatedBytes() - allocated : -1);
+        }
+    }
+
+    void collect(ImmutableList.Builder<ListenerTimings> timings) {
+        for (Map.Entry<Class<?>, Counter> entry : this.counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long[] histogram = new long[counter.histogram.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = counter.histogram.get(i);
+            }
+            timings.add(new ListenerTimings(this.plugin, this.name, entry.getKey(), counter.invocations.sum(), counter.nanos.sum(),
+                    counter.maxNanos.get(), histogram, counter.allocationSamples.sum() == 0 ? -1 : counter.allocatedBytes.sum()));
+        }
+    }
+
+    void reset() {
+        this.counters.clear();
+    }
+
+    private static final class Counter {
+
+        final LongAdder invocations = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        // The invocations by the number of bits of their duration
+        final AtomicLongArray histogram = new AtomicLongArray(Long.SIZE);
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAdder allocationSamples = new LongAdder();
+
+        void record(long nanos, long allocatedBytes) {
+            nanos = Math.max(nanos, 0);
+            this.invocations.increment();
+            this.nanos.add(nanos);
+            this.histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos));
+            long max;
+            while (nanos > (max = this.maxNanos.get()) && !this.maxNanos.compareAndSet(max, nanos)) {
+                // Retry with the new maximum
+            }
+            if (allocatedBytes >= 0) {
+                this.allocatedBytes.add(allocatedBytes);
+                this.allocationSamples.increment();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.timing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.OptionalLong;
+
+/**
+ * A snapshot of the timings recorded for a listener handling one class of
+ * event.
+ */
+public final class ListenerTimings {
+
+    private final PluginContainer plugin;
+    private final String listener;
+    private final Class<?> eventType;
+    private final long invocations;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+    private final long allocatedBytes;
+
+    ListenerTimings(PluginContainer plugin, String listener, Class<?> eventType, long invocations, long totalNanos, long maxNanos,
+            long[] histogram, long allocatedBytes) {
+        this.plugin = plugin;
+        this.listener = listener;
+        this.eventType = eventType;
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Gets the plugin which registered the listener.
+     *
+     * @return The plugin
+     */
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the name of the listener.
+     *
+     * @return The name of the listener
+     */
+    public String getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets the class of the events handled by the listener.
+     *
+     * @return The class of the events
+     */
+    public Class<?> getEventType() {
+        return this.eventType;
+    }
+
+    /**
+     * Gets how many times the listener was called.
+     *
+     * @return The number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * Gets the time spent in the listener in total, in nanoseconds.
+     *
+     * @return The total time
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Gets the average time spent in the listener per invocation, in
+     * nanoseconds.
+     *
+     * @return The average time
+     */
+    public long getAverageNanos() {
+        return this.invocations == 0 ? 0 : this.totalNanos / this.invocations;
+    }
+
+    /**
+     * Gets the longest time spent in a single invocation of the listener, in
+     * nanoseconds.
+     *
+     * @return The maximum time
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the time within which the given fraction of the invocations of the
+     * listener completed, in nanoseconds. The times are recorded with a
+     * precision of a power of two, so the result is an upper bound which is
+     * off by less than a factor of two.
+     *
+     * @param percentile The fraction of the invocations, between 0 and 1
+     * @return The time within which the invocations completed
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+        final long target = (long) Math.ceil(percentile * this.invocations);
+        long count = 0;
+        for (int i = 0; i < this.histogram.length; i++) {
+            count += this.histogram[i];
+            if (count >= target && count > 0) {
+                // Bucket i holds the durations of i bits
+                return Math.min((1L << i) - 1, this.maxNanos);
+            }
+        }
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the number of bytes allocated by the listener in total, if
+     * allocations were tracked. Only the invocations made while allocations
+     * were tracked are accounted for.
+     *
+     * @return The allocated bytes, if allocations were tracked
+     */
+    public OptionalLong getAllocatedBytes() {
+        return this.allocatedBytes < 0 ? OptionalLong.empty() : OptionalLong.of(this.allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("listener", this.listener)
+                .add("eventType", this.eventType.getName())
+                .add("invocations", this.invocations)
+                .add("totalNanos", this.totalNanos)
+                .add("maxNanos", this.maxNanos)
+                .toString();
+    }
+
+}
@@ -42,6 +42,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nullable;
 
@@ -56,6 +57,7 @@ public class MemorySubjectData implements OptionSubjectData {
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
+    private final List<Runnable> updateListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
@@ -67,6 +69,25 @@ public MemorySubjectData(PermissionService service) {
         this.service = service;
     }
 
+    /**
+     * Adds a listener to be notified after any of the data held by this
+     * instance changed, for example to invalidate a {@link PermissionCache}.
+     *
+     * @param listener The listener to add
+     */
+    public void addUpdateListener(Runnable listener) {
+        this.updateListeners.add(checkNotNull(listener, "listener"));
+    }
+
+    private boolean onUpdate(boolean changed) {
+        if (changed) {
+            for (Runnable listener : this.updateListeners) {
+                listener.run();
+            }
+        }
+        return changed;
+    }
+
     @Override
     public Map<Set<Context>, Map<String, Boolean>> getAllPermissions() {
         ImmutableMap.Builder<Set<Context>, Map<String, Boolean>> ret = ImmutableMap.builder();
@@ -113,20 +134,54 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
                 }
             }
         }
-        return true;
+        return onUpdate(true);
+
+    }
+
+    /**
+     * Sets a batch of permissions in the given context at once. All of the
+     * values are applied to the node tree of the context together, and
+     * published with a single update.
+     *
+     * @param contexts The particular context combination to set the
+     *     permissions in
+     * @param permissions The permissions to set, mapped to their values, or
+     *     to UNDEFINED to unset them
+     * @return Whether any of the permissions were changed
+     */
+    public boolean setPermissions(Set<Context> contexts, Map<String, Tristate> permissions) {
+        contexts = ImmutableSet.copyOf(contexts);
+        permissions = ImmutableMap.copyOf(permissions);
+        while (true) {
+            NodeTree oldTree = this.permissions.get(contexts);
+            boolean changed = false;
+            for (Map.Entry<String, Tristate> ent : permissions.entrySet()) {
+                if (oldTree == null ? ent.getValue() != Tristate.UNDEFINED : oldTree.get(ent.getKey()) != ent.getValue()) {
+                    changed = true;
+                    break;
+                }
+            }
+            if (!changed) {
+                return false;
+            }
 
+            NodeTree newTree = (oldTree == null ? NodeTree.of(Collections.emptyMap()) : oldTree).withAll(permissions);
+            if (updateCollection(this.permissions, contexts, oldTree, newTree)) {
+                return onUpdate(true);
+            }
+        }
     }
 
     @Override
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
-        return !wasEmpty;
+        return onUpdate(!wasEmpty);
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        return onUpdate(this.permissions.remove(context) != null);
     }
 
     @Override
@@ -169,7 +224,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
-                return true;
+                return onUpdate(true);
             }
         }
     }
@@ -203,7 +258,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
-                return true;
+                return onUpdate(true);
             }
         }
 
@@ -213,12 +268,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
-        return !wasEmpty;
+        return onUpdate(!wasEmpty);
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return onUpdate(this.parents.remove(contexts) != null);
     }
 
     @Override
@@ -238,7 +293,7 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
 
         if (origMap == null) {
             if ((origMap = this.options.putIfAbsent(ImmutableSet.copyOf(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
-                return true;
+                return onUpdate(true);
             }
         }
         do {
@@ -256,17 +311,17 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
             }
             newMap = Collections.unmodifiableMap(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        return true;
+        return onUpdate(true);
     }
 
     @Override
     public boolean clearOptions(Set<Context> contexts) {
-        return this.options.remove(contexts) != null;
+        return onUpdate(this.options.remove(contexts) != null);
     }
 
     @Override
     public boolean clearOptions() {
         this.options.clear();
-        return true;
+        return onUpdate(true);
     }
 }
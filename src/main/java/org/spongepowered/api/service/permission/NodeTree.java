@@ -31,22 +31,24 @@
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * An immutable tree structure for determining node data. Any changes will create new copies of the necessary tree objects.
  * Keys are case-insensitive.
  * Segments of nodes are split by the '.' character
+ *
+ * <p>The children of each node are held in a persistent hash array mapped
+ * trie. Changes only copy the nodes along the changed paths and share every
+ * untouched subtree with the original tree, while lookups hash and compare
+ * the segments of a node in place, folding their case character by
+ * character, so that {@link #get(String)} does not need to allocate.</p>
  */
 public class NodeTree {
 
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
-
-    private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<>());
-        this.rootNode.value = value;
-    }
-
     private NodeTree(Node rootNode) {
         this.rootNode = rootNode;
     }
@@ -69,22 +71,33 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        Edit root = new Edit();
+        root.value = defaultValue;
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
+            root.child(split(value.getKey())).value = Tristate.fromBoolean(value.getValue());
+        }
+        return new NodeTree(root.apply(null));
+    }
+
+    private static String[] split(String node) {
+        return SPLIT_REGEX.split(fold(node, 0, node.length()));
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static String fold(String node, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (fold(node.charAt(i)) != node.charAt(i)) {
+                char[] chars = new char[end - start];
+                for (int j = start; j < end; j++) {
+                    chars[j - start] = fold(node.charAt(j));
                 }
+                return new String(chars);
             }
-            currentNode.value = Tristate.fromBoolean(value.getValue());
         }
-        return newTree;
+        return node.substring(start, end);
     }
 
     /**
@@ -94,20 +107,35 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node currentNode = this.rootNode;
+        // Trailing empty segments are ignored, as they would be by String#split
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        if (end == 0 && !node.isEmpty()) {
+            return lastUndefinedVal;
+        }
+        Node currentNode = this.rootNode;
+        int start = 0;
+        while (true) {
+            int dot = node.indexOf('.', start);
+            if (dot < 0 || dot > end) {
+                dot = end;
+            }
+            currentNode = currentNode.getChild(node, start, dot);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (dot == end) {
+                break;
+            }
+            start = dot + 1;
         }
         return lastUndefinedVal;
-
     }
 
     /**
@@ -117,18 +145,23 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
-        }
+        populateMap(ret, null, this.rootNode.children);
         return ret.build();
     }
 
-    private void populateMap(ImmutableMap.Builder<String, Boolean> values, String prefix, Node currentNode) {
-        if (currentNode.value != Tristate.UNDEFINED) {
-            values.put(prefix, currentNode.value.asBoolean());
-        }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+    private void populateMap(ImmutableMap.Builder<String, Boolean> values, @Nullable String prefix, Trie children) {
+        Object[] array = children.array;
+        for (int i = 0; i < array.length; i += 2) {
+            if (array[i] == null) {
+                populateMap(values, prefix, (Trie) array[i + 1]);
+            } else {
+                String key = prefix == null ? (String) array[i] : prefix + '.' + array[i];
+                Node child = (Node) array[i + 1];
+                if (child.value != Tristate.UNDEFINED) {
+                    values.put(key, child.value.asBoolean());
+                }
+                populateMap(values, key, child.children);
+            }
         }
     }
 
@@ -140,44 +173,234 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        String[] parts = split(node);
+        Node[] oldPath = new Node[parts.length + 1];
+        oldPath[0] = this.rootNode;
+        for (int i = 0; i < parts.length && oldPath[i] != null; i++) {
+            oldPath[i + 1] = oldPath[i].getChild(parts[i]);
+        }
+
+        Node oldChild = oldPath[parts.length];
+        Node newChild = new Node(value, oldChild == null ? Trie.EMPTY : oldChild.children);
+        for (int i = parts.length - 1; i >= 0; i--) {
+            Node oldParent = oldPath[i] == null ? Node.EMPTY : oldPath[i];
+            newChild = new Node(i == 0 ? oldParent.value : Tristate.UNDEFINED, oldParent.children.put(parts[i], newChild));
+        }
+        return new NodeTree(newChild);
     }
 
     /**
      * Return a modified new node tree with the specified values set.
      *
+     * <p>All of the changes are applied in a single pass, copying each
+     * affected node once.</p>
+     *
      * @param values The values to set
      * @return The new node tree
      */
     public NodeTree withAll(Map<String, Tristate> values) {
-        NodeTree ret = this;
+        if (values.isEmpty()) {
+            return this;
+        }
+        Edit root = new Edit();
         for (Map.Entry<String, Tristate> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), ent.getValue());
+            // Replay the changes in order so that the outcome is the same as
+            // applying them one by one with withValue
+            String[] parts = split(ent.getKey());
+            Edit currentEdit = root;
+            for (String part : parts) {
+                currentEdit = currentEdit.child(part);
+                currentEdit.value = Tristate.UNDEFINED;
+            }
+            currentEdit.value = ent.getValue();
+        }
+        return new NodeTree(root.apply(this.rootNode));
+    }
+
+    /**
+     * A pending set of changes to a node and its children.
+     */
+    private static class Edit {
+
+        private final Map<String, Edit> children = new HashMap<>();
+        @Nullable private Tristate value;
+
+        Edit child(String key) {
+            Edit child = this.children.get(key);
+            if (child == null) {
+                child = new Edit();
+                this.children.put(key, child);
+            }
+            return child;
+        }
+
+        Edit child(String[] path) {
+            Edit currentEdit = this;
+            for (String part : path) {
+                currentEdit = currentEdit.child(part);
+            }
+            return currentEdit;
+        }
+
+        Node apply(@Nullable Node node) {
+            if (node == null) {
+                node = Node.EMPTY;
+            }
+            Trie children = node.children;
+            for (Map.Entry<String, Edit> child : this.children.entrySet()) {
+                children = children.put(child.getKey(), child.getValue().apply(children.get(child.getKey())));
+            }
+            return new Node(this.value == null ? node.value : this.value, children);
         }
-        return ret;
     }
 
     private static class Node {
 
-        private final Map<String, Node> children;
-        private Tristate value = Tristate.UNDEFINED;
+        static final Node EMPTY = new Node(Tristate.UNDEFINED, Trie.EMPTY);
+
+        private final Tristate value;
+        private final Trie children;
 
-        private Node(Map<String, Node> children) {
+        private Node(Tristate value, Trie children) {
+            this.value = value;
             this.children = children;
         }
+
+        @Nullable
+        Node getChild(String key) {
+            return this.children.get(key);
+        }
+
+        /**
+         * Gets the child for the given segment of a node, folding its case
+         * on the fly. The hash computed is the one of the folded segment as
+         * a {@link String}.
+         */
+        @Nullable
+        Node getChild(String node, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + fold(node.charAt(i));
+            }
+            return this.children.get(hash, node, start, end);
+        }
+    }
+
+    /**
+     * An immutable hash array mapped trie from segments to child nodes.
+     *
+     * <p>Each level consumes five bits of the hash of a segment. The array
+     * holds a pair of slots for every bit set in the bitmap, either a key and
+     * its node or {@code null} and the trie of the next level. Segments whose
+     * hashes are equal end up in a level past the last bit of the hash, which
+     * is searched linearly.</p>
+     */
+    private static class Trie {
+
+        static final Trie EMPTY = new Trie(0, new Object[0]);
+
+        private static final int BITS = 5;
+        private static final int MASK = (1 << BITS) - 1;
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private Trie(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Nullable
+        Node get(String key) {
+            return get(key.hashCode(), key, 0, key.length());
+        }
+
+        @Nullable
+        Node get(int hash, String node, int start, int end) {
+            Trie trie = this;
+            for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+                int bit = 1 << ((hash >>> shift) & MASK);
+                if ((trie.bitmap & bit) == 0) {
+                    return null;
+                }
+                int index = trie.indexOf(bit);
+                Object key = trie.array[index];
+                if (key == null) {
+                    trie = (Trie) trie.array[index + 1];
+                } else {
+                    return matches((String) key, hash, node, start, end) ? (Node) trie.array[index + 1] : null;
+                }
+            }
+            for (int i = 0; i < trie.array.length; i += 2) {
+                if (matches((String) trie.array[i], hash, node, start, end)) {
+                    return (Node) trie.array[i + 1];
+                }
+            }
+            return null;
+        }
+
+        private static boolean matches(String key, int hash, String node, int start, int end) {
+            if (key.hashCode() != hash || key.length() != end - start) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                if (key.charAt(i - start) != fold(node.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        Trie put(String key, Node child) {
+            return put(0, key.hashCode(), key, child);
+        }
+
+        private Trie put(int shift, int hash, String key, Node child) {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < this.array.length; i += 2) {
+                    if (this.array[i].equals(key)) {
+                        return with(i + 1, child);
+                    }
+                }
+                return inserted(this.bitmap, this.array.length, key, child);
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = indexOf(bit);
+            if ((this.bitmap & bit) == 0) {
+                return inserted(this.bitmap | bit, index, key, child);
+            }
+            Object existing = this.array[index];
+            if (existing == null) {
+                return with(index + 1, ((Trie) this.array[index + 1]).put(shift + BITS, hash, key, child));
+            } else if (existing.equals(key)) {
+                return with(index + 1, child);
+            }
+            String existingKey = (String) existing;
+            Trie level = EMPTY.put(shift + BITS, existingKey.hashCode(), existingKey, (Node) this.array[index + 1])
+                    .put(shift + BITS, hash, key, child);
+            Object[] array = this.array.clone();
+            array[index] = null;
+            array[index + 1] = level;
+            return new Trie(this.bitmap, array);
+        }
+
+        private Trie with(int index, Object value) {
+            Object[] array = this.array.clone();
+            array[index] = value;
+            return new Trie(this.bitmap, array);
+        }
+
+        private Trie inserted(int bitmap, int index, String key, Node child) {
+            Object[] array = new Object[this.array.length + 2];
+            System.arraycopy(this.array, 0, array, 0, index);
+            array[index] = key;
+            array[index + 1] = child;
+            System.arraycopy(this.array, index, array, index + 2, this.array.length - index);
+            return new Trie(bitmap, array);
+        }
     }
 }
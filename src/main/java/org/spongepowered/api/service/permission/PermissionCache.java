@@ -0,0 +1,329 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextCalculator;
+import org.spongepowered.api.service.context.ContextualService;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An opt-in cache of resolved permission values, which a
+ * {@link PermissionService} may use to avoid walking the inheritance of a
+ * {@link Subject} for every permission check.
+ *
+ * <p>Values are resolved by a {@link Resolver}, by default
+ * {@link Subject#getPermissionValue(Set, String)}, and memoized per subject,
+ * context combination and permission. Every cached value remembers the
+ * subjects it was inherited through, so that {@link #invalidate(Subject)}
+ * only drops the values that depend on the changed subject. A service should
+ * invalidate a subject whenever any of its {@link SubjectData} changes, for
+ * example by registering
+ * {@code data.addUpdateListener(() -> cache.invalidate(subject))} on a
+ * {@link MemorySubjectData}, and invalidate everything when its
+ * {@link PermissionService#getDefaultData() default data} changes.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class PermissionCache implements ContextualService<Subject> {
+
+    private final Resolver resolver;
+    private final List<ContextCalculator<Subject>> calculators = new CopyOnWriteArrayList<>();
+    private final Cache<Key, Resolution> cache;
+
+    // Guarded by the lock, maps every subject to the values inherited through it
+    private final Map<Subject, Set<Resolution>> dependents = new HashMap<>();
+    private final Object lock = new Object();
+    private volatile long generation;
+
+    /**
+     * Creates a new permission cache holding up to the given number of values,
+     * which resolves them through
+     * {@link Subject#getPermissionValue(Set, String)}.
+     *
+     * @param maximumSize The maximum number of values to cache
+     */
+    public PermissionCache(long maximumSize) {
+        this(maximumSize, Subject::getPermissionValue);
+    }
+
+    /**
+     * Creates a new permission cache holding up to the given number of values,
+     * which resolves them through the given resolver.
+     *
+     * @param maximumSize The maximum number of values to cache
+     * @param resolver The resolver computing the values to cache
+     */
+    public PermissionCache(long maximumSize, Resolver resolver) {
+        checkArgument(maximumSize >= 0, "maximumSize must not be negative");
+        this.resolver = checkNotNull(resolver, "resolver");
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .removalListener((RemovalListener<Key, Resolution>) notification -> unlink(notification.getValue()))
+                .build();
+    }
+
+    @Override
+    public void registerContextCalculator(ContextCalculator<Subject> calculator) {
+        this.calculators.add(checkNotNull(calculator, "calculator"));
+    }
+
+    /**
+     * Calculates the contexts currently applicable to the given subject,
+     * using the {@link ContextCalculator}s registered with this cache.
+     *
+     * @param subject The subject to calculate the contexts of
+     * @return An immutable set of the active contexts
+     */
+    public Set<Context> getActiveContexts(Subject subject) {
+        checkNotNull(subject, "subject");
+        Set<Context> contexts = new HashSet<>();
+        for (ContextCalculator<Subject> calculator : this.calculators) {
+            calculator.accumulateContexts(subject, contexts);
+        }
+        return ImmutableSet.copyOf(contexts);
+    }
+
+    /**
+     * Gets the value of a permission for the given subject in its
+     * {@link #getActiveContexts(Subject) active contexts}.
+     *
+     * @param subject The subject to check
+     * @param permission The permission to check
+     * @return The cached or freshly resolved value
+     */
+    public Tristate getPermissionValue(Subject subject, String permission) {
+        return getPermissionValue(subject, getActiveContexts(subject), permission);
+    }
+
+    /**
+     * Gets the value of a permission for the given subject in the given
+     * contexts, resolving and caching it if it isn't cached yet.
+     *
+     * @param subject The subject to check
+     * @param contexts The contexts to check in
+     * @param permission The permission to check
+     * @return The cached or freshly resolved value
+     */
+    public Tristate getPermissionValue(Subject subject, Set<Context> contexts, String permission) {
+        Key key = new Key(checkNotNull(subject, "subject"), ImmutableSet.copyOf(contexts), checkNotNull(permission, "permission"));
+        Resolution resolution = this.cache.getIfPresent(key);
+        if (resolution != null) {
+            return resolution.value;
+        }
+
+        long generation = this.generation;
+        Tristate value = checkNotNull(this.resolver.resolve(subject, key.contexts, permission), "value");
+        resolution = new Resolution(key, value, getInheritanceChain(subject, key.contexts));
+        synchronized (this.lock) {
+            // Anything invalidated while resolving may have been read already
+            if (this.generation == generation) {
+                for (Subject dependency : resolution.chain) {
+                    Set<Resolution> resolutions = this.dependents.get(dependency);
+                    if (resolutions == null) {
+                        resolutions = Sets.newIdentityHashSet();
+                        this.dependents.put(dependency, resolutions);
+                    }
+                    resolutions.add(resolution);
+                }
+                this.cache.put(key, resolution);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Collects the given subject and all of its ancestors in the given
+     * contexts, any of which a resolved value may be inherited from.
+     * Inheritance cycles are only walked once.
+     *
+     * @param subject The subject to start from
+     * @param contexts The contexts the parents are looked up in
+     * @return The subject followed by all of its ancestors
+     */
+    private static List<Subject> getInheritanceChain(Subject subject, Set<Context> contexts) {
+        Set<Subject> visited = new LinkedHashSet<>();
+        Deque<Subject> pending = new ArrayDeque<>();
+        pending.add(subject);
+        while (!pending.isEmpty()) {
+            Subject next = pending.poll();
+            if (visited.add(next)) {
+                pending.addAll(next.getParents(contexts));
+            }
+        }
+        return ImmutableList.copyOf(visited);
+    }
+
+    /**
+     * Drops every cached value of the given subject, and of the subjects
+     * inheriting from it directly or through any of its descendants.
+     *
+     * @param subject The subject whose data changed
+     */
+    public void invalidate(Subject subject) {
+        checkNotNull(subject, "subject");
+        synchronized (this.lock) {
+            this.generation++;
+            Set<Resolution> resolutions = this.dependents.remove(subject);
+            if (resolutions != null) {
+                for (Resolution resolution : ImmutableList.copyOf(resolutions)) {
+                    this.cache.asMap().remove(resolution.key, resolution);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every cached value.
+     */
+    public void invalidateAll() {
+        synchronized (this.lock) {
+            this.generation++;
+            this.cache.invalidateAll();
+            this.dependents.clear();
+        }
+    }
+
+    /**
+     * Gets the number of values currently cached.
+     *
+     * @return The number of cached values
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Gets the statistics of this cache, the numbers of hits, misses and
+     * evictions since it was created.
+     *
+     * @return The statistics of this cache
+     */
+    public CacheStats getStats() {
+        return this.cache.stats();
+    }
+
+    private void unlink(Resolution resolution) {
+        synchronized (this.lock) {
+            for (Subject dependency : resolution.chain) {
+                Set<Resolution> resolutions = this.dependents.get(dependency);
+                if (resolutions != null) {
+                    resolutions.remove(resolution);
+                    if (resolutions.isEmpty()) {
+                        this.dependents.remove(dependency);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the value of a permission for a subject, taking inheritance
+     * into account.
+     */
+    @FunctionalInterface
+    public interface Resolver {
+
+        /**
+         * Resolves the value of the given permission.
+         *
+         * @param subject The subject to check
+         * @param contexts The contexts to check in
+         * @param permission The permission to check
+         * @return The tristate value of the permission
+         */
+        Tristate resolve(Subject subject, Set<Context> contexts, String permission);
+    }
+
+    private static final class Key {
+
+        private final Subject subject;
+        private final Set<Context> contexts;
+        private final String permission;
+        private final int hashCode;
+
+        Key(Subject subject, Set<Context> contexts, String permission) {
+            this.subject = subject;
+            this.contexts = contexts;
+            this.permission = permission;
+            this.hashCode = Objects.hashCode(subject, contexts, permission);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.hashCode == other.hashCode
+                    && this.subject.equals(other.subject)
+                    && this.permission.equals(other.permission)
+                    && this.contexts.equals(other.contexts);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    private static final class Resolution {
+
+        final Key key;
+        final Tristate value;
+        final List<Subject> chain;
+
+        Resolution(Key key, Tristate value, List<Subject> chain) {
+            this.key = key;
+            this.value = value;
+            this.chain = chain;
+        }
+    }
+}
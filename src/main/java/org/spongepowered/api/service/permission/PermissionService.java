@@ -114,4 +114,16 @@ public interface PermissionService extends ContextualService<Subject> {
      */
     Collection<PermissionDescription> getDescriptions();
 
+    /**
+     * Gets the {@link PermissionCache} this service resolves permissions
+     * through, if it opted in to caching them. Its
+     * {@link PermissionCache#getStats() statistics} expose the hits, misses
+     * and evictions of the cache.
+     *
+     * @return The permission cache, if this service uses one
+     */
+    default Optional<PermissionCache> getPermissionCache() {
+        return Optional.empty();
+    }
+
 }
@@ -119,8 +119,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.score, this.override);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.score, this.override);
     }
 
     @Override
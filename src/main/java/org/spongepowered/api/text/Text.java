@@ -107,6 +107,19 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     public static Comparator<Text> PLAIN_COMPARATOR = (text1, text2) -> text1.toPlain().compareTo(text2.toPlain());
 
+    /**
+     * The maximum length of the plain text which is kept by a text once it
+     * was computed, so that large texts do not hold on to a second copy of
+     * their content.
+     */
+    static final int MAX_CACHED_PLAIN_LENGTH = 1024;
+
+    /**
+     * The initial size of the stacks used to walk through the children of a
+     * text, which are grown as needed.
+     */
+    static final int INITIAL_VISIT_DEPTH = 8;
+
     final TextFormat format;
     final ImmutableList<Text> children;
     final Optional<ClickAction<?>> clickAction;
@@ -119,6 +132,24 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    /**
+     * Whether the plain text of this text can be kept once it was computed.
+     * This is not the case if it depends on a {@link ScoreText} or the
+     * translation of a {@link TranslatableText}, which may change.
+     */
+    private final boolean cachePlain;
+
+    /**
+     * Whether the hash code of this text can be kept once it was computed.
+     * Unlike the plain text, the hash code also depends on the texts shown
+     * by the hover actions, and on the arguments of translations.
+     */
+    private final boolean cacheHash;
+
+    // Lazily computed, see toPlain() and hashCode()
+    @Nullable private String plain;
+    private int hashCode;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -126,6 +157,8 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.hoverAction = Optional.empty();
         this.shiftClickAction = Optional.empty();
         this.childrenIterable = () -> Iterators.singletonIterator(this);
+        this.cachePlain = canCachePlain();
+        this.cacheHash = canCacheHash();
     }
 
     /**
@@ -147,6 +180,41 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.hoverAction = Optional.ofNullable(hoverAction);
         this.shiftClickAction = Optional.ofNullable(shiftClickAction);
         this.childrenIterable = () -> new TextIterator(this);
+        this.cachePlain = canCachePlain();
+        this.cacheHash = canCacheHash();
+    }
+
+    private boolean canCachePlain() {
+        if (this instanceof ScoreText || this instanceof TranslatableText) {
+            return false;
+        }
+        for (Text child : this.children) {
+            if (!child.cachePlain) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean canCacheHash() {
+        // Scores and the arguments of translations may change
+        if (this instanceof ScoreText || this instanceof TranslatableText) {
+            return false;
+        }
+        for (Text child : this.children) {
+            if (!child.cacheHash) {
+                return false;
+            }
+        }
+        if (this.hoverAction.isPresent()) {
+            final HoverAction<?> action = this.hoverAction.get();
+            if (action instanceof HoverAction.ShowText) {
+                return ((HoverAction.ShowText) action).getResult().cacheHash;
+            }
+            // Item stacks are mutable
+            return !(action instanceof HoverAction.ShowItem);
+        }
+        return true;
     }
 
     /**
@@ -198,6 +266,63 @@ public final Iterable<Text> withChildren() {
         return this.childrenIterable;
     }
 
+    /**
+     * Visits this text and all of its children depth-first with the given
+     * {@link TextVisitor}, together with their effective formats.
+     *
+     * <p>Unlike recursing through {@link #getChildren()}, this does not use
+     * a stack frame for each level, so it is suited to deeply nested
+     * texts.</p>
+     *
+     * @param visitor The visitor to visit the texts with
+     */
+    public final void visit(TextVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        TextFormat rootFormat = inheritFormat(TextFormat.NONE, this.format);
+        if (!visitor.enter(this, rootFormat) || this.children.isEmpty()) {
+            visitor.leave(this, rootFormat);
+            return;
+        }
+
+        Text[] parents = new Text[INITIAL_VISIT_DEPTH];
+        TextFormat[] formats = new TextFormat[INITIAL_VISIT_DEPTH];
+        int[] indices = new int[INITIAL_VISIT_DEPTH];
+        int depth = 0;
+        parents[0] = this;
+        formats[0] = rootFormat;
+        while (depth >= 0) {
+            Text parent = parents[depth];
+            int index = indices[depth];
+            if (index == parent.children.size()) {
+                visitor.leave(parent, formats[depth]);
+                parents[depth] = null;
+                formats[depth--] = null;
+                continue;
+            }
+
+            indices[depth] = index + 1;
+            Text child = parent.children.get(index);
+            TextFormat format = inheritFormat(formats[depth], child.format);
+            if (!visitor.enter(child, format) || child.children.isEmpty()) {
+                visitor.leave(child, format);
+                continue;
+            }
+
+            if (++depth == parents.length) {
+                parents = Arrays.copyOf(parents, depth * 2);
+                formats = Arrays.copyOf(formats, depth * 2);
+                indices = Arrays.copyOf(indices, depth * 2);
+            }
+            parents[depth] = child;
+            formats[depth] = format;
+            indices[depth] = 0;
+        }
+    }
+
+    private static TextFormat inheritFormat(TextFormat parent, TextFormat format) {
+        return format.isEmpty() ? parent : parent.merge(format);
+    }
+
     /**
      * Returns the {@link ClickAction} executed on the client when this
      * {@link Text} gets clicked.
@@ -253,10 +378,20 @@ public final boolean isEmpty() {
      * Returns a plain text representation of this {@link Text} without any
      * formatting.
      *
+     * <p>The plain text is kept once it was computed, unless it is very long
+     * or depends on the value of a score or on a translation.</p>
+     *
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        String plain = this.plain;
+        if (plain == null) {
+            plain = TextSerializers.PLAIN.serialize(this);
+            if (this.cachePlain && plain.length() <= MAX_CACHED_PLAIN_LENGTH) {
+                this.plain = plain;
+            }
+        }
+        return plain;
     }
 
     /**
@@ -307,6 +442,10 @@ public boolean equals(@Nullable Object o) {
         }
 
         Text that = (Text) o;
+        if (this.cacheHash && that.cacheHash && this.hashCode != 0 && that.hashCode != 0
+                && this.hashCode != that.hashCode) {
+            return false;
+        }
         return this.format.equals(that.format)
                 && this.children.equals(that.children)
                 && this.clickAction.equals(that.clickAction)
@@ -315,7 +454,25 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
+    public final int hashCode() {
+        if (!this.cacheHash) {
+            return computeHashCode();
+        }
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            // Like String, a hash code of 0 is just computed again every time
+            this.hashCode = hashCode = computeHashCode();
+        }
+        return hashCode;
+    }
+
+    /**
+     * Computes the hash code of this text, which is kept by
+     * {@link #hashCode()} once it was computed unless it may change.
+     *
+     * @return The hash code
+     */
+    int computeHashCode() {
         return Objects.hashCode(this.format, this.children, this.clickAction, this.hoverAction, this.shiftClickAction);
     }
 
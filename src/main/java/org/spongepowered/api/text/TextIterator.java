@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.text;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -32,12 +33,16 @@
 /**
  * Represents a recursive {@link Iterator} for {@link Text} including the text
  * itself as well as all children texts.
+ *
+ * <p>The iterator keeps its own stack of the texts whose children are being
+ * iterated, rather than creating an iterator for every level.</p>
  */
 final class TextIterator implements Iterator<Text> {
 
-    private final Text text;
-    @Nullable private Iterator<Text> children;
-    @Nullable private Iterator<Text> currentChildIterator;
+    private Text[] parents = new Text[Text.INITIAL_VISIT_DEPTH];
+    private int[] indices = new int[Text.INITIAL_VISIT_DEPTH];
+    private int depth = -1;
+    @Nullable private Text next;
 
     /**
      * Constructs a new {@link TextIterator} for the specified {@link Text}.
@@ -45,27 +50,45 @@ final class TextIterator implements Iterator<Text> {
      * @param text The root text for the iterator
      */
     TextIterator(Text text) {
-        this.text = text;
+        this.next = text;
     }
 
     @Override
     public boolean hasNext() {
-        return this.children == null || (this.currentChildIterator != null && this.currentChildIterator.hasNext()) || this.children.hasNext();
+        return this.next != null;
     }
 
     @Override
     public Text next() {
-        if (!hasNext()) {
+        Text text = this.next;
+        if (text == null) {
             throw new NoSuchElementException();
         }
-        if (this.children == null) {
-            this.children = this.text.children.iterator();
-            return this.text;
-        } else if (this.currentChildIterator == null || !this.currentChildIterator.hasNext()) {
-            this.currentChildIterator = this.children.next().childrenIterable.iterator();
+
+        if (!text.children.isEmpty()) {
+            if (++this.depth == this.parents.length) {
+                this.parents = Arrays.copyOf(this.parents, this.depth * 2);
+                this.indices = Arrays.copyOf(this.indices, this.depth * 2);
+            }
+            this.parents[this.depth] = text;
+            this.indices[this.depth] = 1;
+            this.next = text.children.get(0);
+            return text;
+        }
+
+        while (this.depth >= 0) {
+            Text parent = this.parents[this.depth];
+            int index = this.indices[this.depth];
+            if (index < parent.children.size()) {
+                this.indices[this.depth] = index + 1;
+                this.next = parent.children.get(index);
+                return text;
+            }
+            this.parents[this.depth--] = null;
         }
 
-        return this.currentChildIterator.next();
+        this.next = null;
+        return text;
     }
 
 }
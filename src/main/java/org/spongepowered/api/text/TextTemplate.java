@@ -25,6 +25,7 @@
 package org.spongepowered.api.text;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Objects;
@@ -40,6 +41,7 @@
 import org.spongepowered.api.text.serializer.TextTemplateConfigSerializer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -81,6 +83,7 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
     final Text text;
     final String openArg;
     final String closeArg;
+    @Nullable private volatile Compiled compiled;
 
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
@@ -255,6 +258,21 @@ private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
         return builder;
     }
 
+    /**
+     * Returns a compiled form of this TextTemplate, which is faster to apply
+     * repeatedly than {@link #apply(Map)}. The compiled template is created
+     * once and then kept by this template.
+     *
+     * @return The compiled template
+     */
+    public Compiled compile() {
+        Compiled compiled = this.compiled;
+        if (compiled == null) {
+            this.compiled = compiled = new Compiled(this);
+        }
+        return compiled;
+    }
+
     /**
      * Constructs a new TextTemplate for the given elements. The order of the
      * elements is the order in which they will be appended to the result
@@ -374,6 +392,252 @@ public boolean equals(Object obj) {
                 && that.closeArg.equals(this.closeArg);
     }
 
+    /**
+     * Represents a {@link TextTemplate} prepared to be applied repeatedly.
+     *
+     * <p>All static elements are converted to {@link Text} up front and
+     * default values of arguments are formatted once. The arguments are
+     * resolved to slots, numbered in the order their names first occur in the
+     * template, so parameters can be supplied by position instead of being
+     * looked up by name.</p>
+     *
+     * <p>Applying a compiled template results in the same text as applying
+     * the template itself with the same parameters.</p>
+     */
+    public static final class Compiled {
+
+        final TextTemplate template;
+        private final Object[] elements; // Text, TextElement or Slot
+        private final ImmutableList<String> names;
+        private final ImmutableMap<String, Integer> slots;
+
+        Compiled(TextTemplate template) {
+            this.template = template;
+            this.elements = new Object[template.elements.size()];
+            ImmutableList.Builder<String> names = ImmutableList.builder();
+            Map<String, Integer> slots = new HashMap<>();
+            for (int i = 0; i < this.elements.length; i++) {
+                Object element = template.elements.get(i);
+                if (element instanceof Arg) {
+                    Arg arg = (Arg) element;
+                    Integer index = slots.get(arg.name);
+                    if (index == null) {
+                        index = slots.size();
+                        slots.put(arg.name, index);
+                        names.add(arg.name);
+                    }
+                    element = new Slot(index, arg);
+                } else if (!(element instanceof Text) && !(element instanceof TextElement)) {
+                    element = Text.of(element.toString());
+                }
+                this.elements[i] = element;
+            }
+            this.names = names.build();
+            this.slots = ImmutableMap.copyOf(slots);
+        }
+
+        /**
+         * Returns the {@link TextTemplate} this was compiled from.
+         *
+         * @return The template
+         */
+        public TextTemplate getTemplate() {
+            return this.template;
+        }
+
+        /**
+         * Returns the names of the arguments of the template, in the order of
+         * their slots.
+         *
+         * @return The argument names
+         */
+        public List<String> getSlotNames() {
+            return this.names;
+        }
+
+        /**
+         * Returns the slot of the argument with the specified name.
+         *
+         * @param name The name of the argument
+         * @return The slot of the argument, if present
+         */
+        public Optional<Integer> getSlot(String name) {
+            return Optional.ofNullable(this.slots.get(name));
+        }
+
+        /**
+         * Creates a new, empty {@link Parameters} holder for this compiled
+         * template, which may be reused for several applications.
+         *
+         * @return The new parameters
+         */
+        public Parameters newParameters() {
+            return new Parameters(this);
+        }
+
+        /**
+         * Applies the specified parameters to this compiled template and
+         * returns the result in a {@link Text.Builder}. The parameters are
+         * given by slot and {@code null} may be supplied for missing
+         * parameters.
+         *
+         * @param params Parameters to apply, one for each slot
+         * @return Text builder containing result
+         * @throws IllegalArgumentException If the number of parameters does
+         *     not match the number of slots
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public Text.Builder apply(@Nullable TextElement... params) {
+            checkNotNull(params, "params");
+            checkArgument(params.length == this.names.size(), "Expected %s parameters but got %s", this.names.size(), params.length);
+            // Note: The builder is initialized as null to avoid unnecessary
+            // Text nesting
+            Text.Builder builder = null;
+            for (Object element : this.elements) {
+                if (element instanceof Slot) {
+                    builder = ((Slot) element).apply(params[((Slot) element).index], builder);
+                } else if (element instanceof Text) {
+                    Text text = (Text) element;
+                    if (builder == null) {
+                        builder = text.toBuilder();
+                    } else {
+                        builder.append(text);
+                    }
+                } else {
+                    if (builder == null) {
+                        builder = Text.builder();
+                    }
+                    ((TextElement) element).applyTo(builder);
+                }
+            }
+            return builder == null ? Text.builder() : builder;
+        }
+
+        /**
+         * Applies the specified parameters to this compiled template and
+         * returns the result in a {@link Text.Builder}.
+         *
+         * @param params Parameters to apply
+         * @return Text builder containing result
+         * @throws IllegalArgumentException If the parameters were created for
+         *     a different compiled template
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public Text.Builder apply(Parameters params) {
+            checkNotNull(params, "params");
+            checkArgument(params.compiled == this, "Parameters were created for a different template");
+            return apply(params.values);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("template", this.template)
+                    .add("slots", this.names)
+                    .toString();
+        }
+
+        private static final class Slot {
+
+            final int index;
+            final Arg arg;
+            @Nullable private final Text defaultText;
+
+            Slot(int index, Arg arg) {
+                this.index = index;
+                this.arg = arg;
+                if (arg.defaultValue != null) {
+                    Text.Builder wrapper = Text.builder().format(arg.format);
+                    arg.defaultValue.applyTo(wrapper);
+                    this.defaultText = wrapper.build();
+                } else {
+                    this.defaultText = null;
+                }
+            }
+
+            @Nullable
+            Text.Builder apply(@Nullable TextElement param, @Nullable Text.Builder builder) {
+                if (param == null) {
+                    this.arg.checkOptional();
+                    if (this.defaultText == null) {
+                        return builder;
+                    } else if (builder == null) {
+                        return this.defaultText.toBuilder();
+                    }
+                    return builder.append(this.defaultText);
+                }
+
+                // wrap the parameter in the argument format
+                Text.Builder wrapper = Text.builder().format(this.arg.format);
+                param.applyTo(wrapper);
+                if (builder == null) {
+                    return wrapper;
+                }
+                return builder.append(wrapper.build());
+            }
+
+        }
+
+    }
+
+    /**
+     * A reusable holder for the parameters of a {@link Compiled} template.
+     *
+     * <p>Instances of this class are not thread-safe.</p>
+     */
+    public static final class Parameters {
+
+        final Compiled compiled;
+        final TextElement[] values;
+
+        Parameters(Compiled compiled) {
+            this.compiled = compiled;
+            this.values = new TextElement[compiled.names.size()];
+        }
+
+        /**
+         * Sets the parameter for the specified slot.
+         *
+         * @param slot The slot of the argument
+         * @param value The parameter, or {@code null} to unset it
+         * @return These parameters
+         */
+        public Parameters set(int slot, @Nullable TextElement value) {
+            checkElementIndex(slot, this.values.length, "slot");
+            this.values[slot] = value;
+            return this;
+        }
+
+        /**
+         * Sets the parameter for the argument with the specified name.
+         *
+         * @param name The name of the argument
+         * @param value The parameter, or {@code null} to unset it
+         * @return These parameters
+         * @throws IllegalArgumentException If the template has no argument
+         *     with the given name
+         */
+        public Parameters set(String name, @Nullable TextElement value) {
+            Integer slot = this.compiled.slots.get(checkNotNull(name, "name"));
+            checkArgument(slot != null, "Unknown argument: %s", name);
+            this.values[slot] = value;
+            return this;
+        }
+
+        /**
+         * Unsets all parameters.
+         *
+         * @return These parameters
+         */
+        public Parameters clear() {
+            Arrays.fill(this.values, null);
+            return this;
+        }
+
+    }
+
     /**
      * Represents a variable element within a TextTemplate. Arguments are
      * replaced by parameters in {@link #apply(Map)}.
@@ -0,0 +1,60 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import org.spongepowered.api.text.format.TextFormat;
+
+/**
+ * Represents a visitor for a {@link Text} and all of its children, which is
+ * passed to {@link Text#visit(TextVisitor)}.
+ *
+ * <p>The texts are visited depth-first in the order they are displayed. Each
+ * text is visited with its effective format, which is its own format merged
+ * with the formats inherited from its parents.</p>
+ */
+@FunctionalInterface
+public interface TextVisitor {
+
+    /**
+     * Called when a text is entered, before any of its children are
+     * visited.
+     *
+     * @param text The text which is entered
+     * @param format The effective format of the text
+     * @return Whether the children of the text should be visited
+     */
+    boolean enter(Text text, TextFormat format);
+
+    /**
+     * Called when a text is left, after all of its children were visited or
+     * if they were skipped.
+     *
+     * @param text The text which is left
+     * @param format The effective format of the text
+     */
+    default void leave(Text text, TextFormat format) {
+    }
+
+}
@@ -117,8 +117,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.translation, this.arguments);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.translation, this.arguments);
     }
 
     @Override
@@ -34,8 +34,12 @@
 import org.spongepowered.api.text.channel.type.FixedMessageChannel;
 import org.spongepowered.api.text.channel.type.PermissionMessageChannel;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -146,6 +150,35 @@ default void send(@Nullable Object sender, Text original) {
         }
     }
 
+    /**
+     * Send a message to this channel, transforming it for all of the members
+     * first and then handing every distinct message to the given executor,
+     * which sends it to all of its recipients.
+     *
+     * <p>Recipients receiving an equal message are sent the same {@link Text}
+     * instance. The executor may be asynchronous, for example one created by
+     * {@link org.spongepowered.api.scheduler.Scheduler#createAsyncExecutor(Object)},
+     * in which case the members must support receiving messages from other
+     * threads.</p>
+     *
+     * @param sender The sender of the message
+     * @param original The original message to send
+     * @param executor The executor sending the messages
+     */
+    default void send(@Nullable Object sender, Text original, Executor executor) {
+        checkNotNull(original, "original text");
+        checkNotNull(executor, "executor");
+        for (Map.Entry<Text, Collection<MessageReceiver>> batch : this.transformMessages(sender, original).entrySet()) {
+            Text message = batch.getKey();
+            Collection<MessageReceiver> recipients = batch.getValue();
+            executor.execute(() -> {
+                for (MessageReceiver recipient : recipients) {
+                    recipient.sendMessage(message);
+                }
+            });
+        }
+    }
+
     /**
      * Handle transforming the input message appropriately.
      * Transforms
@@ -159,6 +192,36 @@ default Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.of(original);
     }
 
+    /**
+     * Transforms the input message for all of the members of this channel,
+     * grouping the members which receive equal messages together.
+     *
+     * @param sender The sender of the message
+     * @param original The original message, to optionally transform
+     * @return The distinct messages to send, mapped to their recipients in
+     *     the order of the members
+     */
+    default Map<Text, Collection<MessageReceiver>> transformMessages(@Nullable Object sender, Text original) {
+        checkNotNull(original, "original text");
+        Map<Text, Collection<MessageReceiver>> batches = new LinkedHashMap<>();
+        Text lastMessage = null;
+        Collection<MessageReceiver> lastBatch = null;
+        for (MessageReceiver member : this.getMembers()) {
+            Optional<Text> message = this.transformMessage(sender, member, original);
+            if (!message.isPresent()) {
+                continue;
+            }
+            // Most transformations hand out the same instance, which can skip
+            // hashing the message
+            if (message.get() != lastMessage) {
+                lastMessage = message.get();
+                lastBatch = batches.computeIfAbsent(lastMessage, key -> new ArrayList<>());
+            }
+            lastBatch.add(member);
+        }
+        return batches;
+    }
+
     /**
      * Gets a collection of all members in this channel.
      *
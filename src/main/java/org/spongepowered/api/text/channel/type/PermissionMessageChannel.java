@@ -34,9 +34,13 @@
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A message channel that targets all subjects with the given permission.
+ *
+ * <p>If a {@link PermissionReceiverIndex} is provided, the members are looked
+ * up in it, otherwise all known subjects are queried.</p>
  */
 public class PermissionMessageChannel implements MessageChannel {
 
@@ -52,6 +56,11 @@ public String getPermission() {
 
     @Override
     public Collection<MessageReceiver> getMembers() {
+        Optional<PermissionReceiverIndex> index = Sponge.getGame().getServiceManager().provide(PermissionReceiverIndex.class);
+        if (index.isPresent()) {
+            return index.get().getMembers(this.permission);
+        }
+
         PermissionService service = Sponge.getGame().getServiceManager().provideUnchecked(PermissionService.class);
 
         return service.getKnownSubjects().values().stream()
@@ -0,0 +1,181 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel.type;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.service.ServiceManager;
+import org.spongepowered.api.service.permission.MemorySubjectData;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.text.channel.MessageReceiver;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An index of the online receivers holding each permission. When provided
+ * through the {@link ServiceManager}, {@link PermissionMessageChannel}s get
+ * their members from it instead of querying every known subject.
+ *
+ * <p>The index is maintained incrementally, but it does not observe anything
+ * by itself. Whoever registers it, usually the permission service provider,
+ * must wire it up:</p>
+ *
+ * <ul>
+ *     <li>{@link #addSubject(Subject)} when a subject comes online, and
+ *     {@link #removeSubject(Subject)} when it leaves, from the connection
+ *     events of the implementation.</li>
+ *     <li>{@link #update(Subject)} whenever the data of a subject changes,
+ *     for example by registering
+ *     {@code data.addUpdateListener(() -> index.update(subject))} on its
+ *     {@link MemorySubjectData}, and {@link #updateAll()} when the default
+ *     data changes.</li>
+ * </ul>
+ *
+ * <p>An index which is registered without being wired up returns empty or
+ * stale members. A permission is tracked from the first time its members
+ * are requested.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class PermissionReceiverIndex {
+
+    // Guarded by this, the online subjects and their receivers
+    private final Map<Subject, MessageReceiver> receivers = new HashMap<>();
+    private final ConcurrentMap<String, ImmutableSet<MessageReceiver>> members = Maps.newConcurrentMap();
+
+    /**
+     * Gets the online receivers holding the given permission.
+     *
+     * @param permission The permission
+     * @return An immutable collection of the receivers
+     */
+    public Collection<MessageReceiver> getMembers(String permission) {
+        ImmutableSet<MessageReceiver> members = this.members.get(checkNotNull(permission, "permission"));
+        if (members == null) {
+            synchronized (this) {
+                members = this.members.get(permission);
+                if (members == null) {
+                    ImmutableSet.Builder<MessageReceiver> builder = ImmutableSet.builder();
+                    for (Map.Entry<Subject, MessageReceiver> entry : this.receivers.entrySet()) {
+                        if (entry.getKey().hasPermission(permission)) {
+                            builder.add(entry.getValue());
+                        }
+                    }
+                    members = builder.build();
+                    this.members.put(permission, members);
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Adds a subject which came online to this index. This must be called
+     * for every subject joining the server. Subjects without a
+     * {@link Subject#getCommandSource() command source} are ignored.
+     *
+     * @param subject The subject to add
+     */
+    public synchronized void addSubject(Subject subject) {
+        Optional<? extends MessageReceiver> receiver = checkNotNull(subject, "subject").getCommandSource();
+        if (receiver.isPresent() && !this.receivers.containsKey(subject)) {
+            this.receivers.put(subject, receiver.get());
+            refresh(subject, receiver.get());
+        }
+    }
+
+    /**
+     * Removes a subject which went offline from this index. This must be
+     * called for every subject leaving the server.
+     *
+     * @param subject The subject to remove
+     */
+    public synchronized void removeSubject(Subject subject) {
+        MessageReceiver receiver = this.receivers.remove(checkNotNull(subject, "subject"));
+        if (receiver != null) {
+            for (Map.Entry<String, ImmutableSet<MessageReceiver>> entry : this.members.entrySet()) {
+                if (entry.getValue().contains(receiver)) {
+                    entry.setValue(without(entry.getValue(), receiver));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the permissions of a subject whose data changed. This must be
+     * called whenever the data of a subject changes. If the subject
+     * isn't online it may be the parent of online subjects, which are all
+     * updated.
+     *
+     * @param subject The subject whose data changed
+     */
+    public synchronized void update(Subject subject) {
+        MessageReceiver receiver = this.receivers.get(checkNotNull(subject, "subject"));
+        if (receiver != null) {
+            refresh(subject, receiver);
+        } else {
+            updateAll();
+        }
+    }
+
+    /**
+     * Updates the permissions of all online subjects, for example after the
+     * default data of the permission service changed.
+     */
+    public synchronized void updateAll() {
+        for (Map.Entry<Subject, MessageReceiver> entry : this.receivers.entrySet()) {
+            refresh(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void refresh(Subject subject, MessageReceiver receiver) {
+        for (Map.Entry<String, ImmutableSet<MessageReceiver>> entry : this.members.entrySet()) {
+            ImmutableSet<MessageReceiver> members = entry.getValue();
+            boolean member = subject.hasPermission(entry.getKey());
+            if (member && !members.contains(receiver)) {
+                entry.setValue(ImmutableSet.<MessageReceiver>builder().addAll(members).add(receiver).build());
+            } else if (!member && members.contains(receiver)) {
+                entry.setValue(without(members, receiver));
+            }
+        }
+    }
+
+    private static ImmutableSet<MessageReceiver> without(ImmutableSet<MessageReceiver> members, MessageReceiver receiver) {
+        ImmutableSet.Builder<MessageReceiver> builder = ImmutableSet.builder();
+        for (MessageReceiver member : members) {
+            if (!member.equals(receiver)) {
+                builder.add(member);
+            }
+        }
+        return builder.build();
+    }
+
+}
@@ -27,9 +27,13 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TextElement;
 
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * Represents a pair of {@link TextStyle} and {@link TextColor}.
  */
@@ -40,6 +44,12 @@ public final class TextFormat implements TextElement {
      */
     public static final TextFormat NONE = new TextFormat();
 
+    /**
+     * The formats with a canonical {@link TextStyle}, by color and then by
+     * the key of the style.
+     */
+    private static final ConcurrentMap<TextColor, AtomicReferenceArray<TextFormat>> CANONICAL = new MapMaker().weakKeys().makeMap();
+
     /**
      * The text color.
      */
@@ -86,6 +96,42 @@ private TextFormat(TextColor color, TextStyle style) {
         this.style = checkNotNull(style, "style");
     }
 
+    /**
+     * Returns the canonical {@link TextFormat} for the given color and style,
+     * if the style is canonical. Otherwise a new format is created.
+     *
+     * @param color The color of the format
+     * @param style The style of the format
+     * @return The text format
+     */
+    private static TextFormat of(TextColor color, TextStyle style) {
+        checkNotNull(color, "color");
+        int key = checkNotNull(style, "style").getInternKey();
+        if (key == -1) {
+            return new TextFormat(color, style);
+        } else if (color == TextColors.NONE && style == TextStyles.NONE) {
+            return NONE;
+        }
+
+        AtomicReferenceArray<TextFormat> formats = CANONICAL.get(color);
+        if (formats == null) {
+            formats = new AtomicReferenceArray<>(TextStyle.INTERN_KEYS);
+            AtomicReferenceArray<TextFormat> existing = CANONICAL.putIfAbsent(color, formats);
+            if (existing != null) {
+                formats = existing;
+            }
+        }
+
+        TextFormat format = formats.get(key);
+        if (format == null) {
+            format = new TextFormat(color, style);
+            if (!formats.compareAndSet(key, null, format)) {
+                format = formats.get(key);
+            }
+        }
+        return format;
+    }
+
     /**
      * Returns the {@link TextColor} in this format.
      *
@@ -112,7 +158,7 @@ public final TextStyle getStyle() {
      * @return The new text format
      */
     public final TextFormat color(TextColor color) {
-        return new TextFormat(color, this.style);
+        return of(color, this.style);
     }
 
     /**
@@ -122,7 +168,7 @@ public final TextFormat color(TextColor color) {
      * @return The new text format
      */
     public final TextFormat style(TextStyle style) {
-        return new TextFormat(this.color, style);
+        return of(this.color, style);
     }
 
     /**
@@ -145,7 +191,7 @@ public final TextFormat merge(TextFormat format) {
         } else if (color == TextColors.RESET) {
             color = TextColors.NONE;
         }
-        return new TextFormat(color, this.style.and(format.style));
+        return of(color, this.style.and(format.style));
     }
 
     /**
@@ -56,11 +56,57 @@
  * component JSON. Properties that are set to true or false should appear, even
  * if they override inherited properties.</p>
  *
+ * <p>There are only 243 distinct combinations of the properties. A canonical
+ * instance is kept for each of them, which is returned by
+ * {@link #of(Boolean, Boolean, Boolean, Boolean, Boolean)} and by all methods
+ * deriving a new style from existing ones.</p>
+ *
  * @see TextStyles
  */
 @CatalogedBy(TextStyles.class)
 public class TextStyle implements TextElement {
 
+    // Property bits of the set and value masks
+    private static final int BOLD = 1;
+    private static final int ITALIC = 1 << 1;
+    private static final int UNDERLINE = 1 << 2;
+    private static final int STRIKETHROUGH = 1 << 3;
+    private static final int OBFUSCATED = 1 << 4;
+    private static final int PROPERTIES = 5;
+
+    /**
+     * The number of possible keys returned by {@link #getInternKey()}.
+     */
+    static final int INTERN_KEYS = 1 << (PROPERTIES * 2);
+
+    /**
+     * The canonical styles, indexed by their key. The empty style is
+     * {@link TextStyles#NONE}, which is not kept in the table as it is
+     * created by {@link TextStyles}.
+     */
+    private static final TextStyle[] CANONICAL = new TextStyle[INTERN_KEYS];
+
+    static {
+        for (int set = 1; set < 1 << PROPERTIES; set++) {
+            for (int value = 0; value < 1 << PROPERTIES; value++) {
+                if ((value & ~set) == 0) {
+                    CANONICAL[key(set, value)] = new TextStyle(set, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * The properties which are present in this style.
+     */
+    private final int set;
+
+    /**
+     * The values of the properties present in this style, a subset of
+     * {@link #set}.
+     */
+    private final int value;
+
     /**
      * Whether text where this style is applied is bolded.
      */
@@ -102,34 +148,103 @@ public TextStyle(@Nullable Boolean bold,
             @Nullable Boolean strikethrough,
             @Nullable Boolean obfuscated) {
         this(
-                OptBool.of(bold),
-                OptBool.of(italic),
-                OptBool.of(underline),
-                OptBool.of(strikethrough),
-                OptBool.of(obfuscated)
+                mask(bold, italic, underline, strikethrough, obfuscated, false),
+                mask(bold, italic, underline, strikethrough, obfuscated, true)
         );
     }
 
     /**
-     * Constructs a new {@link TextStyle}.
+     * Constructs a new {@link TextStyle} from its property masks.
+     *
+     * @param set The properties which are present
+     * @param value The values of the present properties
+     */
+    private TextStyle(int set, int value) {
+        this.set = set;
+        this.value = value;
+        this.bold = property(set, value, BOLD);
+        this.italic = property(set, value, ITALIC);
+        this.underline = property(set, value, UNDERLINE);
+        this.strikethrough = property(set, value, STRIKETHROUGH);
+        this.obfuscated = property(set, value, OBFUSCATED);
+    }
+
+    /**
+     * Returns the canonical {@link TextStyle} with the given properties.
+     * Unlike the constructor, this does not create a new instance.
      *
      * @param bold Whether text where this style is applied is bolded
      * @param italic Whether text where this style is applied is italicized
      * @param underline Whether text where this style is applied is underlined
-     * @param obfuscated Whether text where this style is applied is obfuscated
      * @param strikethrough Whether text where this style is applied has a
      *        strikethrough
+     * @param obfuscated Whether text where this style is applied is obfuscated
+     * @return The canonical text style
      */
-    private TextStyle(Optional<Boolean> bold,
-            Optional<Boolean> italic,
-            Optional<Boolean> underline,
-            Optional<Boolean> strikethrough,
-            Optional<Boolean> obfuscated) {
-        this.bold = bold;
-        this.italic = italic;
-        this.underline = underline;
-        this.obfuscated = obfuscated;
-        this.strikethrough = strikethrough;
+    public static TextStyle of(@Nullable Boolean bold,
+            @Nullable Boolean italic,
+            @Nullable Boolean underline,
+            @Nullable Boolean strikethrough,
+            @Nullable Boolean obfuscated) {
+        return of(
+                mask(bold, italic, underline, strikethrough, obfuscated, false),
+                mask(bold, italic, underline, strikethrough, obfuscated, true)
+        );
+    }
+
+    private static TextStyle of(int set, int value) {
+        return set == 0 ? TextStyles.NONE : CANONICAL[key(set, value)];
+    }
+
+    private static int key(int set, int value) {
+        return set << PROPERTIES | value;
+    }
+
+    /**
+     * Returns the key of this style if it is the canonical instance for its
+     * properties, which is unique among the canonical styles.
+     *
+     * @return The key of this style, or -1 if it is not canonical
+     */
+    final int getInternKey() {
+        int key = key(this.set, this.value);
+        if (key == 0 ? this == TextStyles.NONE : CANONICAL[key] == this) {
+            return key;
+        }
+        return -1;
+    }
+
+    private static int mask(@Nullable Boolean bold,
+            @Nullable Boolean italic,
+            @Nullable Boolean underline,
+            @Nullable Boolean strikethrough,
+            @Nullable Boolean obfuscated,
+            boolean values) {
+        return bit(bold, BOLD, values)
+                | bit(italic, ITALIC, values)
+                | bit(underline, UNDERLINE, values)
+                | bit(strikethrough, STRIKETHROUGH, values)
+                | bit(obfuscated, OBFUSCATED, values);
+    }
+
+    private static int bit(@Nullable Boolean property, int bit, boolean values) {
+        return property != null && (!values || property) ? bit : 0;
+    }
+
+    private static Optional<Boolean> property(int set, int value, int bit) {
+        return (set & bit) == 0 ? OptBool.ABSENT : OptBool.of((value & bit) != 0);
+    }
+
+    private TextStyle with(int bit, @Nullable Boolean property) {
+        int set = this.set & ~bit;
+        int value = this.value & ~bit;
+        if (property != null) {
+            set |= bit;
+            if (property) {
+                value |= bit;
+            }
+        }
+        return of(set, value);
     }
 
     /**
@@ -149,11 +264,7 @@ public boolean isComposite() {
      * @return {@code true} if this style is empty
      */
     public boolean isEmpty() {
-        return !(this.bold.isPresent()
-                || this.italic.isPresent()
-                || this.underline.isPresent()
-                || this.strikethrough.isPresent()
-                || this.obfuscated.isPresent());
+        return this.set == 0;
     }
 
     /**
@@ -163,13 +274,7 @@ public boolean isEmpty() {
      * @return The new text style
      */
     public TextStyle bold(@Nullable Boolean bold) {
-        return new TextStyle(
-                OptBool.of(bold),
-                this.italic,
-                this.underline,
-                this.strikethrough,
-                this.obfuscated
-        );
+        return with(BOLD, bold);
     }
 
     /**
@@ -179,13 +284,7 @@ public TextStyle bold(@Nullable Boolean bold) {
      * @return The new text style
      */
     public TextStyle italic(@Nullable Boolean italic) {
-        return new TextStyle(
-                this.bold,
-                OptBool.of(italic),
-                this.underline,
-                this.strikethrough,
-                this.obfuscated
-        );
+        return with(ITALIC, italic);
     }
 
     /**
@@ -195,13 +294,7 @@ public TextStyle italic(@Nullable Boolean italic) {
      * @return The new text style
      */
     public TextStyle underline(@Nullable Boolean underline) {
-        return new TextStyle(
-                this.bold,
-                this.italic,
-                OptBool.of(underline),
-                this.strikethrough,
-                this.obfuscated
-        );
+        return with(UNDERLINE, underline);
     }
 
     /**
@@ -212,13 +305,7 @@ public TextStyle underline(@Nullable Boolean underline) {
      * @return The new text style
      */
     public TextStyle strikethrough(@Nullable Boolean strikethrough) {
-        return new TextStyle(
-                this.bold,
-                this.italic,
-                this.underline,
-                OptBool.of(strikethrough),
-                this.obfuscated
-        );
+        return with(STRIKETHROUGH, strikethrough);
     }
 
     /**
@@ -229,13 +316,7 @@ public TextStyle strikethrough(@Nullable Boolean strikethrough) {
      * @return The new text style
      */
     public TextStyle obfuscated(@Nullable Boolean obfuscated) {
-        return new TextStyle(
-                this.bold,
-                this.italic,
-                this.underline,
-                this.strikethrough,
-                OptBool.of(obfuscated)
-        );
+        return with(OBFUSCATED, obfuscated);
     }
 
     /**
@@ -305,11 +386,9 @@ public Optional<Boolean> isObfuscated() {
     public boolean contains(TextStyle... styles) {
         for (TextStyle style : checkNotNull(styles, "styles")) {
             checkNotNull(style, "style");
-            if (!propContains(this.bold, style.bold)
-                    || !propContains(this.italic, style.italic)
-                    || !propContains(this.underline, style.underline)
-                    || !propContains(this.strikethrough, style.strikethrough)
-                    || !propContains(this.obfuscated, style.obfuscated)) {
+            // All properties present in the style must be present in this
+            // one with the same value
+            if ((style.set & ~this.set) != 0 || ((style.value ^ this.value) & style.set) != 0) {
                 return false;
             }
         }
@@ -325,13 +404,7 @@ public boolean contains(TextStyle... styles) {
      */
     public TextStyle negate() {
         // Do a negation of each property
-        return new TextStyle(
-                propNegate(this.obfuscated),
-                propNegate(this.bold),
-                propNegate(this.strikethrough),
-                propNegate(this.underline),
-                propNegate(this.italic)
-        );
+        return of(this.set, ~this.value & this.set);
     }
 
     /**
@@ -374,39 +447,17 @@ private TextStyle compose(TextStyle[] styles, boolean negate) {
             return negate ? style.negate() : style;
         }
 
-        Optional<Boolean> boldAcc = this.bold;
-        Optional<Boolean> italicAcc = this.italic;
-        Optional<Boolean> underlineAcc = this.underline;
-        Optional<Boolean> strikethroughAcc = this.strikethrough;
-        Optional<Boolean> obfuscatedAcc = this.obfuscated;
-
-        if (negate) {
-            for (TextStyle style : styles) {
-                checkNotNull(style, "style");
-                boldAcc = propCompose(boldAcc, propNegate(style.bold));
-                italicAcc = propCompose(italicAcc, propNegate(style.italic));
-                underlineAcc = propCompose(underlineAcc, propNegate(style.underline));
-                strikethroughAcc = propCompose(strikethroughAcc, propNegate(style.strikethrough));
-                obfuscatedAcc = propCompose(obfuscatedAcc, propNegate(style.obfuscated));
-            }
-        } else {
-            for (TextStyle style : styles) {
-                checkNotNull(style, "style");
-                boldAcc = propCompose(boldAcc, style.bold);
-                italicAcc = propCompose(italicAcc, style.italic);
-                underlineAcc = propCompose(underlineAcc, style.underline);
-                strikethroughAcc = propCompose(strikethroughAcc, style.strikethrough);
-                obfuscatedAcc = propCompose(obfuscatedAcc, style.obfuscated);
-            }
+        int set = this.set;
+        int value = this.value;
+        for (TextStyle style : styles) {
+            checkNotNull(style, "style");
+            int styleValue = negate ? ~style.value & style.set : style.value;
+            // Properties present in both with different values become absent
+            int conflicts = set & style.set & (value ^ styleValue);
+            set = (set | style.set) & ~conflicts;
+            value = (value | styleValue) & set;
         }
-
-        return new TextStyle(
-                boldAcc,
-                italicAcc,
-                underlineAcc,
-                strikethroughAcc,
-                obfuscatedAcc
-        );
+        return of(set, value);
     }
 
     @Override
@@ -424,16 +475,12 @@ public boolean equals(Object o) {
         }
 
         TextStyle that = (TextStyle) o;
-        return this.bold.equals(that.bold)
-                && this.italic.equals(that.italic)
-                && this.underline.equals(that.underline)
-                && this.obfuscated.equals(that.obfuscated)
-                && this.strikethrough.equals(that.strikethrough);
+        return this.set == that.set && this.value == that.value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.bold, this.italic, this.underline, this.obfuscated, this.strikethrough);
+        return key(this.set, this.value);
     }
 
     @Override
@@ -448,51 +495,6 @@ public String toString() {
                 .toString();
     }
 
-    /**
-     * Utility method to check if the given "super-property" contains the given
-     * "sub-property".
-     *
-     * @param superprop The super property
-     * @param subprop The sub property
-     * @return True if the property is contained, otherwise false
-     */
-    private static boolean propContains(Optional<Boolean> superprop, Optional<Boolean> subprop) {
-        return !subprop.isPresent() || superprop.equals(subprop);
-    }
-
-    /**
-     * Utility method to negate a property if it is not null.
-     *
-     * @param prop The property to negate
-     * @return The negated property, or {@link Optional#empty()}
-     */
-    private static Optional<Boolean> propNegate(Optional<Boolean> prop) {
-        if (prop.isPresent()) {
-            return OptBool.of(!prop.get());
-        } else {
-            return OptBool.ABSENT;
-        }
-    }
-
-    /**
-     * Utility method to perform a compose operation between two properties.
-     *
-     * @param prop1 The first property
-     * @param prop2 The second property
-     * @return The composition of the two properties
-     */
-    private static Optional<Boolean> propCompose(Optional<Boolean> prop1, Optional<Boolean> prop2) {
-        if (!prop1.isPresent()) {
-            return prop2;
-        } else if (!prop2.isPresent()) {
-            return prop1;
-        } else if (!prop1.equals(prop2)) {
-            return OptBool.ABSENT;
-        } else {
-            return prop1;
-        }
-    }
-
     /**
      * Represents a {@link TextStyle} that is not a composite, for example
      * {@link TextStyles#BOLD}. It is a base text style in Minecraft with a
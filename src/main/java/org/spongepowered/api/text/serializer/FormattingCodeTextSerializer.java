@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.text.serializer;
 
+import java.io.IOException;
+
 /**
  * Represents a {@link TextSerializer} for the old "formatting code" strings. A
  * formatted message consists out of plain text with a special character
@@ -55,6 +57,21 @@ public interface FormattingCodeTextSerializer extends SafeTextSerializer {
      */
     String stripCodes(String text);
 
+    /**
+     * Writes a sequence of characters to the given {@link Appendable}, with
+     * the color codes for this {@link FormattingCodeTextSerializer} removed.
+     *
+     * <p>The default implementation appends the result of
+     * {@link #stripCodes(String)}.</p>
+     *
+     * @param text The characters to strip the codes from
+     * @param output The appendable to write the stripped text to
+     * @throws IOException If the output could not be written to
+     */
+    default void stripCodes(CharSequence text, Appendable output) throws IOException {
+        output.append(stripCodes(text.toString()));
+    }
+
     /**
      * Replaces the formatting codes in the specified string with a different
      * specified character, e.g. {@code &cHello &eSponge! -> $cHello $eSponge!}
@@ -65,6 +82,22 @@ public interface FormattingCodeTextSerializer extends SafeTextSerializer {
      */
     String replaceCodes(String text, char to);
 
+    /**
+     * Writes a sequence of characters to the given {@link Appendable}, with
+     * the formatting codes replaced with a different specified character.
+     *
+     * <p>The default implementation appends the result of
+     * {@link #replaceCodes(String, char)}.</p>
+     *
+     * @param text The characters to replace the formatting codes in
+     * @param to The special character to replace with
+     * @param output The appendable to write the replaced text to
+     * @throws IOException If the output could not be written to
+     */
+    default void replaceCodes(CharSequence text, char to, Appendable output) throws IOException {
+        output.append(replaceCodes(text.toString(), to));
+    }
+
     /**
      * Replaces the formatting codes in the specified string with a different
      * character for the specified {@link FormattingCodeTextSerializer},
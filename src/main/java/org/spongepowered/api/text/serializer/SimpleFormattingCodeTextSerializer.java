@@ -0,0 +1,359 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.text.LiteralText;
+import org.spongepowered.api.text.ScoreText;
+import org.spongepowered.api.text.SelectorText;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TextVisitor;
+import org.spongepowered.api.text.TranslatableText;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A reference {@link FormattingCodeTextSerializer} for the vanilla formatting
+ * codes, which writes directly to an {@link Appendable} and parses directly
+ * from a {@link CharSequence} without building intermediate strings.
+ *
+ * <p>Only the content and the format of texts are represented. Actions are
+ * dropped on serialization, translations are serialized in the default
+ * locale and scores are serialized with their current value.</p>
+ */
+public class SimpleFormattingCodeTextSerializer implements FormattingCodeTextSerializer {
+
+    private static final String COLOR_CODES = "0123456789abcdef";
+    private static final String STYLE_CODES = "klmno";
+    private static final char RESET_CODE = 'r';
+
+    // Style bits, in the order of the style codes
+    private static final int OBFUSCATED = 1;
+    private static final int BOLD = 1 << 1;
+    private static final int STRIKETHROUGH = 1 << 2;
+    private static final int UNDERLINE = 1 << 3;
+    private static final int ITALIC = 1 << 4;
+
+    private static final TextStyle[] STYLES = {
+        TextStyle.of(null, null, null, null, true),
+        TextStyle.of(true, null, null, null, null),
+        TextStyle.of(null, null, null, true, null),
+        TextStyle.of(null, null, true, null, null),
+        TextStyle.of(null, true, null, null, null),
+    };
+
+    private final char formattingChar;
+    @Nullable private volatile TextColor[] colors;
+
+    /**
+     * Creates a new serializer for the given formatting character.
+     *
+     * @param formattingChar The formatting character to parse and serialize
+     *        with
+     */
+    public SimpleFormattingCodeTextSerializer(char formattingChar) {
+        checkArgument(COLOR_CODES.indexOf(formattingChar) == -1 && STYLE_CODES.indexOf(formattingChar) == -1
+                && formattingChar != RESET_CODE, "Formatting character cannot be a formatting code: %s", formattingChar);
+        this.formattingChar = formattingChar;
+    }
+
+    @Override
+    public char getCharacter() {
+        return this.formattingChar;
+    }
+
+    // Colors are looked up lazily as they are only available once the
+    // implementation was loaded
+    private TextColor[] getColors() {
+        TextColor[] colors = this.colors;
+        if (colors == null) {
+            this.colors = colors = new TextColor[] {
+                TextColors.BLACK, TextColors.DARK_BLUE, TextColors.DARK_GREEN, TextColors.DARK_AQUA,
+                TextColors.DARK_RED, TextColors.DARK_PURPLE, TextColors.GOLD, TextColors.GRAY,
+                TextColors.DARK_GRAY, TextColors.BLUE, TextColors.GREEN, TextColors.AQUA,
+                TextColors.RED, TextColors.LIGHT_PURPLE, TextColors.YELLOW, TextColors.WHITE
+            };
+        }
+        return colors;
+    }
+
+    private int getColorIndex(TextColor color) {
+        if (color != TextColors.NONE) {
+            TextColor[] colors = getColors();
+            for (int i = 0; i < colors.length; i++) {
+                if (colors[i] == color) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int getStyleBits(TextStyle style) {
+        int bits = 0;
+        if (style.isObfuscated().orElse(false)) {
+            bits |= OBFUSCATED;
+        }
+        if (style.isBold().orElse(false)) {
+            bits |= BOLD;
+        }
+        if (style.hasStrikethrough().orElse(false)) {
+            bits |= STRIKETHROUGH;
+        }
+        if (style.hasUnderline().orElse(false)) {
+            bits |= UNDERLINE;
+        }
+        if (style.isItalic().orElse(false)) {
+            bits |= ITALIC;
+        }
+        return bits;
+    }
+
+    @Override
+    public String serialize(Text text) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            serialize(text, builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void serialize(Text text, Appendable output) throws IOException {
+        try {
+            text.visit(new Writer(output));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Text deserialize(String input) {
+        return deserialize((CharSequence) input);
+    }
+
+    @Override
+    public Text deserialize(CharSequence input) {
+        Text.Builder root = Text.builder();
+        TextFormat format = TextFormat.NONE;
+        StringBuilder content = new StringBuilder();
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == this.formattingChar && i + 1 < length) {
+                TextFormat next = applyCode(format, input.charAt(i + 1));
+                if (next != null) {
+                    if (content.length() > 0) {
+                        root.append(Text.builder(content.toString()).format(format).build());
+                        content.setLength(0);
+                    }
+                    format = next;
+                    i++;
+                    continue;
+                }
+            }
+            content.append(c);
+        }
+        if (content.length() > 0) {
+            root.append(Text.builder(content.toString()).format(format).build());
+        }
+
+        List<Text> children = root.getChildren();
+        return children.size() == 1 ? children.get(0) : root.build();
+    }
+
+    @Nullable
+    private TextFormat applyCode(TextFormat format, char code) {
+        code = Character.toLowerCase(code);
+        if (code == RESET_CODE) {
+            return TextFormat.NONE;
+        }
+
+        int index = COLOR_CODES.indexOf(code);
+        if (index != -1) {
+            return TextFormat.NONE.color(getColors()[index]);
+        }
+
+        index = STYLE_CODES.indexOf(code);
+        if (index != -1) {
+            return format.style(format.getStyle().and(STYLES[index]));
+        }
+        return null;
+    }
+
+    @Override
+    public String stripCodes(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        try {
+            stripCodes(text, builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void stripCodes(CharSequence text, Appendable output) throws IOException {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length - 1; i++) {
+            if (text.charAt(i) == this.formattingChar && isCode(text.charAt(i + 1))) {
+                output.append(text, start, i);
+                start = ++i + 1;
+            }
+        }
+        output.append(text, start, length);
+    }
+
+    @Override
+    public String replaceCodes(String text, char to) {
+        StringBuilder builder = new StringBuilder(text.length());
+        try {
+            replaceCodes(text, to, builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void replaceCodes(CharSequence text, char to, Appendable output) throws IOException {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length - 1; i++) {
+            if (text.charAt(i) == this.formattingChar && isCode(text.charAt(i + 1))) {
+                output.append(text, start, i).append(to);
+                start = i + 1;
+            }
+        }
+        output.append(text, start, length);
+    }
+
+    private static boolean isCode(char c) {
+        c = Character.toLowerCase(c);
+        return c == RESET_CODE || COLOR_CODES.indexOf(c) != -1 || STYLE_CODES.indexOf(c) != -1;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("formattingChar", this.formattingChar)
+                .toString();
+    }
+
+    /**
+     * Writes texts to an {@link Appendable}, only emitting formatting codes
+     * where the effective format changes.
+     */
+    private final class Writer implements TextVisitor {
+
+        private final Appendable output;
+        private int color = -1;
+        private int styles;
+
+        Writer(Appendable output) {
+            this.output = output;
+        }
+
+        @Override
+        public boolean enter(Text text, TextFormat format) {
+            try {
+                writeContent(text, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+
+        private void writeContent(Text text, TextFormat format) throws IOException {
+            if (text instanceof LiteralText) {
+                writeContent(((LiteralText) text).getContent(), format);
+            } else if (text instanceof TranslatableText) {
+                TranslatableText translatable = (TranslatableText) text;
+                List<Object> arguments = translatable.getArguments();
+                Object[] args = new Object[arguments.size()];
+                for (int i = 0; i < args.length; i++) {
+                    Object argument = arguments.get(i);
+                    args[i] = argument instanceof Text ? ((Text) argument).toPlain() : argument;
+                }
+                writeContent(translatable.getTranslation().get(args), format);
+            } else if (text instanceof ScoreText) {
+                ScoreText score = (ScoreText) text;
+                Optional<String> override = score.getOverride();
+                writeContent(override.isPresent() ? override.get() : Integer.toString(score.getScore().getScore()), format);
+            } else if (text instanceof SelectorText) {
+                writeContent(((SelectorText) text).getSelector().toPlain(), format);
+            }
+        }
+
+        private void writeContent(String content, TextFormat format) throws IOException {
+            if (content.isEmpty()) {
+                return;
+            }
+
+            int color = getColorIndex(format.getColor());
+            int styles = getStyleBits(format.getStyle());
+            if (color != this.color || (this.styles & ~styles) != 0) {
+                // Color codes reset the styles, so they have to be written
+                // again afterwards
+                if (color == -1) {
+                    this.output.append(SimpleFormattingCodeTextSerializer.this.formattingChar).append(RESET_CODE);
+                } else {
+                    this.output.append(SimpleFormattingCodeTextSerializer.this.formattingChar).append(COLOR_CODES.charAt(color));
+                }
+                this.color = color;
+                this.styles = 0;
+            }
+
+            int added = styles & ~this.styles;
+            for (int i = 0; added != 0; i++, added >>>= 1) {
+                if ((added & 1) != 0) {
+                    this.output.append(SimpleFormattingCodeTextSerializer.this.formattingChar).append(STYLE_CODES.charAt(i));
+                }
+            }
+            this.styles = styles;
+
+            this.output.append(content);
+        }
+
+    }
+
+}
@@ -26,6 +26,11 @@
 
 import org.spongepowered.api.text.Text;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * Represents a serializer for {@link Text} instances that converts an input
  * string into a formatted {@link Text} instance, or a {@link Text} instance
@@ -43,6 +48,44 @@ public interface TextSerializer {
      */
     String serialize(Text text);
 
+    /**
+     * Writes the string representation of the provided {@link Text}, as
+     * returned by {@link #serialize(Text)}, to the given {@link Appendable}.
+     *
+     * <p>The default implementation appends the result of
+     * {@link #serialize(Text)}. Serializers which can write their output
+     * piece by piece should override this method to avoid creating the
+     * intermediate string.</p>
+     *
+     * @param text The text to serialize
+     * @param output The appendable to write the string representation to
+     * @throws IOException If the output could not be written to
+     */
+    default void serialize(Text text, Appendable output) throws IOException {
+        output.append(serialize(text));
+    }
+
+    /**
+     * Writes the string representation of the provided {@link Text}, as
+     * returned by {@link #serialize(Text)}, to the given {@link ByteBuffer},
+     * encoded as UTF-8.
+     *
+     * @param text The text to serialize
+     * @param output The buffer to write the encoded string representation to
+     * @throws BufferOverflowException If the remaining space in the buffer is
+     *     insufficient
+     */
+    default void serialize(Text text, ByteBuffer output) {
+        Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(output);
+        try {
+            serialize(text, appendable);
+        } catch (IOException e) {
+            // Writing to a buffer does not throw IOExceptions
+            throw new AssertionError(e);
+        }
+        appendable.finish();
+    }
+
     /**
      * Returns a {@link Text} instance from an appropriately formatted string.
      *
@@ -52,6 +95,41 @@ public interface TextSerializer {
      */
     Text deserialize(String input) throws TextParseException;
 
+    /**
+     * Returns a {@link Text} instance from an appropriately formatted
+     * sequence of characters.
+     *
+     * <p>The default implementation converts the input to a string and
+     * passes it to {@link #deserialize(String)}.</p>
+     *
+     * @param input The raw input to parse into a text
+     * @return The parsed text for the input
+     * @throws TextParseException If an error occurs while parsing the text
+     */
+    default Text deserialize(CharSequence input) throws TextParseException {
+        return deserialize(input.toString());
+    }
+
+    /**
+     * Returns a {@link Text} instance from the appropriately formatted
+     * characters read from the given {@link Reader}, until the end of its
+     * stream.
+     *
+     * @param input The reader to read the raw input from
+     * @return The parsed text for the input
+     * @throws IOException If the input could not be read
+     * @throws TextParseException If an error occurs while parsing the text
+     */
+    default Text deserialize(Reader input) throws IOException, TextParseException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        return deserialize(builder);
+    }
+
     /**
      * Tries to return a {@link Text} instance from the provided input string.
      * However, if the input string is not of a valid format, the returned
@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} which encodes the characters appended to it as UTF-8
+ * directly into a {@link ByteBuffer}.
+ *
+ * <p>Unpaired surrogates are replaced with {@code '?'}. A high surrogate at
+ * the end of an append is kept until the next append or {@link #finish()}, so
+ * surrogate pairs may be split across several appends.</p>
+ */
+final class Utf8ByteBufferAppendable implements Appendable {
+
+    private static final byte REPLACEMENT = '?';
+
+    private final ByteBuffer buffer;
+    private char highSurrogate;
+
+    /**
+     * Creates a new appendable writing to the given buffer, starting at its
+     * current position.
+     *
+     * @param buffer The buffer to write to
+     */
+    Utf8ByteBufferAppendable(ByteBuffer buffer) {
+        this.buffer = checkNotNull(buffer, "buffer");
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(CharSequence csq) {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(CharSequence csq, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(char c) {
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                ensureRemaining(4);
+                this.buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                this.buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                this.buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                this.buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return this;
+            }
+            ensureRemaining(1);
+            this.buffer.put(REPLACEMENT);
+        }
+
+        if (c < 0x80) {
+            ensureRemaining(1);
+            this.buffer.put((byte) c);
+        } else if (c < 0x800) {
+            ensureRemaining(2);
+            this.buffer.put((byte) (0xC0 | (c >> 6)));
+            this.buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            ensureRemaining(1);
+            this.buffer.put(REPLACEMENT);
+        } else {
+            ensureRemaining(3);
+            this.buffer.put((byte) (0xE0 | (c >> 12)));
+            this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            this.buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a replacement for a trailing unpaired high surrogate, if there
+     * is one.
+     */
+    void finish() {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            ensureRemaining(1);
+            this.buffer.put(REPLACEMENT);
+        }
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            throw new BufferOverflowException();
+        }
+    }
+
+}
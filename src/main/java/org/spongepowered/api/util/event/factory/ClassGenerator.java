@@ -25,25 +25,35 @@
 package org.spongepowered.api.util.event.factory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACC_VARARGS;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ARRAYLENGTH;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DLOAD;
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FRETURN;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -52,6 +62,7 @@
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
@@ -61,11 +72,14 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Reusable;
 import org.spongepowered.api.eventgencore.AccessorFirstStrategy;
 import org.spongepowered.api.eventgencore.Property;
 import org.spongepowered.api.eventgencore.PropertySearchStrategy;
@@ -77,6 +91,9 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -226,6 +243,25 @@ public static Field getField(Class<?> type, String fieldName) {
         return null;
     }
 
+    /**
+     * Get whether the given event type, or any of the types it extends, is
+     * annotated with {@link Reusable}.
+     *
+     * @param type The event type
+     * @return Whether the event may be reused
+     */
+    public static boolean isReusable(Class<?> type) {
+        if (type.isAnnotationPresent(Reusable.class)) {
+            return true;
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            if (isReusable(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get the policy regarding how null parameters are handled.
      *
@@ -253,6 +289,25 @@ private boolean hasNonnull(Method method) {
         return method.getAnnotation(Nonnull.class) != null;
     }
 
+    /**
+     * Get the properties which are set by the constructors of the event
+     * class, in the order expected by a {@link PositionalEventFactory}.
+     *
+     * @param properties The properties of the event
+     * @return The properties, sorted by name
+     */
+    private static List<Property<Class<?>, Method>> getParameterProperties(
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        List<Property<Class<?>, Method>> parameters = new ArrayList<>();
+        for (Property<Class<?>, Method> property : properties) {
+            if (property.isLeastSpecificType()) {
+                parameters.add(property);
+            }
+        }
+        parameters.sort(Ordering.natural().onResultOf(Property::getName));
+        return parameters;
+    }
+
     public static void generateField(ClassWriter classWriter, Property<Class<?>, Method> property) {
         FieldVisitor fv = classWriter.visitField(ACC_PRIVATE, property.getName(), Type.getDescriptor(property.getType()), null, null);
         fv.visitEnd();
@@ -294,50 +349,7 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
             mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "remove", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
             mv.visitVarInsn(ASTORE, 2);
 
-            // Only if we have a null policy:
-            // if (value == null) throw new NullPointerException(...)
-            if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
-                boolean useNullTest = (((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !this.hasNullable(property.getAccessor()))
-                        || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && this.hasNonnull(property.getAccessor())))
-                        && isRequired(property));
-
-                if (useNullTest) {
-                    Label afterNullTest = new Label();
-                    mv.visitVarInsn(ALOAD, 2);
-                    mv.visitJumpInsn(IFNONNULL, afterNullTest);
-                    mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
-                    mv.visitInsn(DUP);
-                    mv.visitLdcInsn("The property '" + property.getName() + "' was not provided!");
-                    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
-                    mv.visitInsn(ATHROW);
-                    mv.visitLabel(afterNullTest);
-                }
-            }
-
-            final boolean hasUseField = getUseField(parentType, property.getName()) != null;
-
-            Label afterPut = new Label();
-
-            // if (value != null) {
-            mv.visitVarInsn(ALOAD, 2);
-            mv.visitJumpInsn(IFNULL, afterPut);
-
-            // stack: -> this
-            mv.visitVarInsn(ALOAD, 0);
-
-            // ProperObject newValue = (ProperObject) value
-            mv.visitVarInsn(ALOAD, 2);
-            visitUnboxingMethod(mv, property.getType());
-
-            // this.field = newValue
-            if (hasUseField) {
-                mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
-            } else {
-                mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
-            }
-            // }
-
-            mv.visitLabel(afterPut);
+            this.visitPropertyStore(mv, internalName, parentType, property);
         }
 
         // if (!map.isEmpty()) throw new IllegalArgumentException(...)
@@ -376,6 +388,177 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
         mv.visitEnd();
     }
 
+    /**
+     * Insert the instructions storing the value held by the local variable
+     * 2 into the field of the given property.
+     *
+     * @param mv The method visitor
+     * @param internalName The internal name of the event class
+     * @param parentType The parent type
+     * @param property The property to store the value of
+     */
+    private void visitPropertyStore(MethodVisitor mv, String internalName, Class<?> parentType, Property<Class<?>, Method> property) {
+        // Only if we have a null policy:
+        // if (value == null) throw new NullPointerException(...)
+        if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
+            boolean useNullTest = (((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !this.hasNullable(property.getAccessor()))
+                    || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && this.hasNonnull(property.getAccessor())))
+                    && isRequired(property));
+
+            if (useNullTest) {
+                Label afterNullTest = new Label();
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitJumpInsn(IFNONNULL, afterNullTest);
+                mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn("The property '" + property.getName() + "' was not provided!");
+                mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
+                mv.visitInsn(ATHROW);
+                mv.visitLabel(afterNullTest);
+            }
+        }
+
+        Label afterPut = new Label();
+
+        // if (value != null) {
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitJumpInsn(IFNULL, afterPut);
+
+        // stack: -> this
+        mv.visitVarInsn(ALOAD, 0);
+
+        // ProperObject newValue = (ProperObject) value
+        mv.visitVarInsn(ALOAD, 2);
+        visitUnboxingMethod(mv, property.getType());
+
+        // this.field = newValue
+        visitPutField(mv, internalName, parentType, property);
+        // }
+
+        mv.visitLabel(afterPut);
+    }
+
+    /**
+     * Insert the instructions resetting the field of the given property to
+     * its default value.
+     *
+     * @param mv The method visitor
+     * @param internalName The internal name of the event class
+     * @param parentType The parent type
+     * @param property The property to reset the field of
+     */
+    private static void visitPropertyClear(MethodVisitor mv, String internalName, Class<?> parentType, Property<Class<?>, Method> property) {
+        Class<?> type = property.getType();
+
+        mv.visitVarInsn(ALOAD, 0);
+        if (type == long.class) {
+            mv.visitInsn(LCONST_0);
+        } else if (type == float.class) {
+            mv.visitInsn(FCONST_0);
+        } else if (type == double.class) {
+            mv.visitInsn(DCONST_0);
+        } else if (type.isPrimitive()) {
+            mv.visitInsn(ICONST_0);
+        } else {
+            mv.visitInsn(ACONST_NULL);
+        }
+        visitPutField(mv, internalName, parentType, property);
+    }
+
+    private static void visitPutField(MethodVisitor mv, String internalName, Class<?> parentType, Property<Class<?>, Method> property) {
+        if (getUseField(parentType, property.getName()) != null) {
+            mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
+        } else {
+            mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
+        }
+    }
+
+    private static void visitParameterCountCheck(MethodVisitor mv, List<Property<Class<?>, Method>> parameters) {
+        // if (values.length != count) throw new IllegalArgumentException(...)
+        Label afterException = new Label();
+
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitInsn(ARRAYLENGTH);
+        mv.visitLdcInsn(parameters.size());
+        mv.visitJumpInsn(IF_ICMPEQ, afterException);
+
+        mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn("Expected " + parameters.size() + " parameters: " + Lists.transform(parameters, Property::getName));
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitInsn(ATHROW);
+
+        mv.visitLabel(afterException);
+    }
+
+    private void generatePositionalConstructor(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        final List<Property<Class<?>, Method>> parameters = getParameterProperties(properties);
+
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+
+        // super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
+
+        visitParameterCountCheck(mv, parameters);
+
+        for (int i = 0; i < parameters.size(); i++) {
+            // Object value = values[i]
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitVarInsn(ASTORE, 2);
+
+            this.visitPropertyStore(mv, internalName, parentType, parameters.get(i));
+        }
+
+        // super.init();
+        if (hasDeclaredMethod(parentType, "init")) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "init", "()V", false);
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateReset(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        List<Property<Class<?>, Method>> parameters = getParameterProperties(properties);
+
+        // Package private, so that it is only reachable from the factory
+        MethodVisitor mv = classWriter.visitMethod(ACC_SYNTHETIC, "reset", "([Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+
+        visitParameterCountCheck(mv, parameters);
+
+        for (int i = 0; i < parameters.size(); i++) {
+            // this.field = default
+            visitPropertyClear(mv, internalName, parentType, parameters.get(i));
+
+            // Object value = values[i]
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitVarInsn(ASTORE, 2);
+
+            this.visitPropertyStore(mv, internalName, parentType, parameters.get(i));
+        }
+
+        // super.init();
+        if (hasDeclaredMethod(parentType, "init")) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "init", "()V", false);
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     private void generateAccessor(ClassWriter cw, Class<?> parentType, String internalName, Property<Class<?>, Method> property) {
         Method accessor = property.getAccessor();
 
@@ -582,8 +765,14 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         // Create the fields
         // this.contributeFields(cw, parentType, properties, plugins);
 
-        // Create the constructor
+        // Create the constructors
         this.generateConstructor(cw, internalName, parentType, properties);
+        this.generatePositionalConstructor(cw, internalName, parentType, properties);
+
+        // Reusable events can be reinitialized by their factory
+        if (isReusable(type)) {
+            this.generateReset(cw, internalName, parentType, properties);
+        }
 
         // The return value of toString takes the form of
         // "ClassName{param1=value1, param2=value2, ...}"
@@ -619,7 +808,9 @@ private void generateWithPlugins(ClassWriter cw, Class<?> eventClass, Class<?> p
     }
 
     /**
-     * Create the factory for an event class.
+     * Create the factory for an event class. The factory implements both
+     * {@link EventFactory} and {@link PositionalEventFactory}, as well as
+     * {@link ResettableEventFactory} if the event is {@link Reusable}.
      *
      * @param type The event class
      * @param name The canonical name of the factory class
@@ -629,9 +820,15 @@ public byte[] createFactory(final Class<?> type, final String name) {
         checkNotNull(type, "type");
 
         String internalName = name.replace('.', '/');
+        // The event class implements the event interface it was generated for
+        Class<?> eventType = type.getInterfaces()[0];
+        List<Property<Class<?>, Method>> parameters =
+                getParameterProperties(this.propertySearch.findProperties(new ReflectionClassWrapper(eventType)));
+        boolean reusable = isReusable(eventType);
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[] {Type.getInternalName(EventFactory.class)});
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[] {Type.getInternalName(EventFactory.class),
+                Type.getInternalName(reusable ? ResettableEventFactory.class : PositionalEventFactory.class)});
 
         // Create the constructor
         {
@@ -684,6 +881,53 @@ public byte[] createFactory(final Class<?> type, final String name) {
             mv.visitEnd();
         }
 
+        // Positional create()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_VARARGS, "create", "([Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+            mv.visitCode();
+            mv.visitTypeInsn(NEW, Type.getInternalName(type));
+            mv.visitInsn(DUP);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(type), "<init>", "([Ljava/lang/Object;)V", false);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // getParameterNames()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getParameterNames", "()Ljava/util/List;",
+                    "()Ljava/util/List<Ljava/lang/String;>;", null);
+            mv.visitCode();
+            mv.visitLdcInsn(parameters.size());
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/String");
+            for (int i = 0; i < parameters.size(); i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitLdcInsn(parameters.get(i).getName());
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Arrays.class), "asList", "([Ljava/lang/Object;)Ljava/util/List;", false);
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Collections.class), "unmodifiableList",
+                    "(Ljava/util/List;)Ljava/util/List;", false);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // reset()
+        if (reusable) {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_VARARGS, "reset", "(Ljava/lang/Object;[Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(type), "reset", "([Ljava/lang/Object;)V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
         cw.visitEnd();
 
         return cw.toByteArray();
@@ -28,11 +28,20 @@
 
 import org.spongepowered.api.util.event.factory.plugin.EventFactoryPlugin;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 /**
  * Creates event implementations by generating the necessary event class
  * and event factory at runtime.
+ *
+ * <p>Event classes and event factories may also be generated ahead of time
+ * with {@link #precompile(Class, Class, List, Path)}. If they are found on the
+ * class path, they are used instead of generating them again.</p>
  */
 public class ClassGeneratorProvider implements FactoryProvider {
 
@@ -82,8 +91,11 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
         String eventName = getClassName(type, "Impl");
         String factoryName = getClassName(type, "Factory");
 
-        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
-        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        Class<?> factoryClass = findPrecompiledClass(factoryName);
+        if (factoryClass == null) {
+            Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
+            factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        }
 
         try {
             return (EventFactory<T>) factoryClass.newInstance();
@@ -92,6 +104,43 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
         }
     }
 
+    @Nullable
+    private Class<?> findPrecompiledClass(String name) {
+        try {
+            return Class.forName(name, true, this.classLoader.getParent());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generates the event class and event factory for the given type, and
+     * writes their class files to the given directory.
+     *
+     * @param type The type to generate a class for
+     * @param parentType The parent type
+     * @param plugins The {@link EventFactoryPlugin}s to use when generating the class
+     * @param outputDirectory The root directory of the class files
+     * @throws IOException If the class files could not be written
+     */
+    public void precompile(Class<?> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins, Path outputDirectory)
+            throws IOException {
+        String eventName = getClassName(type, "Impl");
+        String factoryName = getClassName(type, "Factory");
+
+        byte[] eventBytes = this.builder.createClass(type, eventName, parentType, plugins);
+        // The factory is generated against a throwaway copy of the event class
+        Class<?> eventClass = new LocalClassLoader(this.classLoader.getParent()).defineClass(eventName, eventBytes);
+        writeClass(outputDirectory, eventName, eventBytes);
+        writeClass(outputDirectory, factoryName, this.builder.createFactory(eventClass, factoryName));
+    }
+
+    private static void writeClass(Path outputDirectory, String name, byte[] bytes) throws IOException {
+        Path path = outputDirectory.resolve(name.replace('.', '/') + ".class");
+        Files.createDirectories(path.getParent());
+        Files.write(path, bytes);
+    }
+
     /**
      * Gets the {@link LocalClassLoader} used to load generated event classes.
      *
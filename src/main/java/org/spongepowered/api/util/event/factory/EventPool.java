@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.event.Reusable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A per thread pool of the instances of a {@link Reusable} event.
+ *
+ * <p>{@link #acquire(Object...)} hands out a released instance of the
+ * current thread, reinitialized by the {@link ResettableEventFactory}, or
+ * creates a new one if there is none. Since instances are only taken out of
+ * the pool while they are in use, events of the same type may safely be
+ * posted while another one is being handled. An event must not be used
+ * anymore once it has been passed to {@link #release(Object)}.</p>
+ *
+ * @param <E> The type of event
+ */
+public final class EventPool<E> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private final ResettableEventFactory<E> factory;
+    private final int capacity;
+    private final ThreadLocal<Deque<E>> released = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Creates a new pool, keeping a few released events per thread.
+     *
+     * @param factory The factory creating the events
+     */
+    public EventPool(ResettableEventFactory<E> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory The factory creating the events
+     * @param capacity The maximum number of released events kept per thread
+     */
+    public EventPool(ResettableEventFactory<E> factory, int capacity) {
+        checkArgument(capacity > 0, "capacity must be positive");
+        this.factory = checkNotNull(factory, "factory");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets an event of the current thread which isn't in use anymore, or
+     * creates a new one, initialized with the given values.
+     *
+     * @param arguments The values of the properties, in the order of
+     *     {@link PositionalEventFactory#getParameterNames()}
+     * @return The event
+     */
+    public E acquire(Object... arguments) {
+        E event = this.released.get().poll();
+        if (event == null) {
+            return this.factory.create(arguments);
+        }
+        this.factory.reset(event, arguments);
+        return event;
+    }
+
+    /**
+     * Returns an event acquired from this pool once it has been posted, so
+     * that it may be reused by the current thread.
+     *
+     * @param event The event
+     */
+    public void release(E event) {
+        checkNotNull(event, "event");
+        Deque<E> released = this.released.get();
+        checkState(!released.contains(event), "The event %s was already released", event);
+        if (released.size() < this.capacity) {
+            released.push(event);
+        }
+    }
+
+}
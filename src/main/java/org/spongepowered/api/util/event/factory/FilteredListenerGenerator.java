@@ -0,0 +1,389 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.FilteredListenerCompiler;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider.LocalClassLoader;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles filtered listener methods by generating a class for each of them
+ * at runtime.
+ *
+ * <p>The listener method and the class declaring it must be public.</p>
+ */
+public class FilteredListenerGenerator implements FilteredListenerCompiler {
+
+    private static final String CAUSE = Type.getInternalName(Cause.class);
+    private static final String OPTIONAL = "java/util/Optional";
+    private static final String LIST = "java/util/List";
+
+    private final LoadingCache<ClassLoader, LocalClassLoader> classLoaders = CacheBuilder.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build(CacheLoader.from(LocalClassLoader::new));
+    private final AtomicInteger id = new AtomicInteger();
+    private final String targetPackage;
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated classes in
+     */
+    public FilteredListenerGenerator(String targetPackage) {
+        this.targetPackage = checkNotNull(targetPackage, "targetPackage");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EventListener<Event> compile(Object listener, Method method) {
+        checkNotNull(listener, "listener");
+        checkNotNull(method, "method");
+        Class<?> listenerClass = method.getDeclaringClass();
+        checkArgument(listenerClass.isInstance(listener), "The listener does not declare %s", method);
+        checkArgument(Modifier.isPublic(listenerClass.getModifiers()) && Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers()), "The listener method %s must be public and not static", method);
+        checkArgument(method.getParameterCount() > 0 && Event.class.isAssignableFrom(method.getParameterTypes()[0]),
+                "The first parameter of %s must be an event", method);
+
+        String name = this.targetPackage + "." + listenerClass.getSimpleName() + "$" + method.getName() + "$" + this.id.incrementAndGet();
+        byte[] bytes = createClass(method, name);
+        Class<?> generatedClass = this.classLoaders.getUnchecked(listenerClass.getClassLoader()).defineClass(name, bytes);
+        try {
+            return (EventListener<Event>) generatedClass.getConstructor(Object.class).newInstance(listener);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create filtered listener", e);
+        }
+    }
+
+    /**
+     * Create the listener class for the given method.
+     *
+     * @param method The listener method
+     * @param name The canonical name of the generated class
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(Method method, String name) {
+        String internalName = ClassGenerator.getInternalName(name);
+        String listenerName = Type.getInternalName(method.getDeclaringClass());
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER + ACC_FINAL, internalName, null, "java/lang/Object",
+                new String[] {Type.getInternalName(EventListener.class)});
+        cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener", "L" + listenerName + ";", null, null).visitEnd();
+
+        // Constructor, storing the listener
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, listenerName);
+            mv.visitFieldInsn(PUTFIELD, internalName, "listener", "L" + listenerName + ";");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // handle(), checking the filters and calling the listener method
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", "(" + Type.getDescriptor(Event.class) + ")V", null,
+                    new String[] {"java/lang/Exception"});
+            mv.visitCode();
+            Label reject = new Label();
+
+            generateEventFilters(mv, method, reject);
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            // Locals: 0 = this, 1 = event, 2 = cause, then one per parameter and a scratch slot
+            int scratch = parameterTypes.length + 2;
+            if (parameterTypes.length > 1) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Event.class), "getCause", "()L" + CAUSE + ";", true);
+                mv.visitVarInsn(ASTORE, 2);
+            }
+            for (int i = 1; i < parameterTypes.length; i++) {
+                generateParameter(mv, method, parameterTypes[i], parameterAnnotations[i], i + 2, scratch, reject);
+            }
+
+            // this.listener.method((EventType) event, (Type) parameter, ...)
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, "listener", "L" + listenerName + ";");
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[0]));
+            for (int i = 1; i < parameterTypes.length; i++) {
+                mv.visitVarInsn(ALOAD, i + 2);
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[i]));
+            }
+            boolean isInterface = method.getDeclaringClass().isInterface();
+            mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, listenerName, method.getName(),
+                    Type.getMethodDescriptor(method), isInterface);
+            if (method.getReturnType() != void.class) {
+                mv.visitInsn(Type.getReturnType(method).getSize() == 2 ? POP2 : POP);
+            }
+            mv.visitInsn(RETURN);
+
+            mv.visitLabel(reject);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void generateEventFilters(MethodVisitor mv, Method method, Label reject) {
+        Class<?> eventType = method.getParameterTypes()[0];
+
+        Include include = method.getAnnotation(Include.class);
+        if (include != null && include.value().length > 0) {
+            Label included = new Label();
+            for (Class<?> type : include.value()) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+                mv.visitJumpInsn(IFNE, included);
+            }
+            mv.visitJumpInsn(GOTO, reject);
+            mv.visitLabel(included);
+        }
+
+        Exclude exclude = method.getAnnotation(Exclude.class);
+        if (exclude != null) {
+            for (Class<?> type : exclude.value()) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+                mv.visitJumpInsn(IFNE, reject);
+            }
+        }
+
+        // Without the annotation, cancelled events are filtered out
+        IsCancelled isCancelled = method.getAnnotation(IsCancelled.class);
+        Tristate state = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+        checkArgument(isCancelled == null || Cancellable.class.isAssignableFrom(eventType),
+                "The event of %s must be cancellable to use @IsCancelled", method);
+        if (state != Tristate.UNDEFINED) {
+            Label notCancellable = new Label();
+            if (!Cancellable.class.isAssignableFrom(eventType)) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(Cancellable.class));
+                mv.visitJumpInsn(IFEQ, notCancellable);
+            }
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(Cancellable.class));
+            mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Cancellable.class), "isCancelled", "()Z", true);
+            mv.visitJumpInsn(state.asBoolean() ? IFEQ : IFNE, reject);
+            mv.visitLabel(notCancellable);
+        }
+    }
+
+    private static void generateParameter(MethodVisitor mv, Method method, Class<?> type, Annotation[] annotations, int local,
+            int scratch, Label reject) {
+        Annotation source = null;
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType == First.class || annotationType == Last.class || annotationType == Before.class
+                    || annotationType == After.class || annotationType == All.class || annotationType == Named.class
+                    || annotationType == Root.class) {
+                checkArgument(source == null, "The parameters of %s must have a single cause annotation", method);
+                source = annotation;
+            }
+        }
+        checkArgument(source != null, "The parameters of %s must have a cause annotation", method);
+        checkArgument(!type.isPrimitive(), "The parameters of %s must not be primitives", method);
+        Type asmType = Type.getType(type);
+
+        Class<?>[] typeFilter;
+        boolean inverse;
+        if (source instanceof All) {
+            checkArgument(type.isArray() && !type.getComponentType().isPrimitive(), "@All must annotate an object array in %s", method);
+            // List list = cause.allOf(ComponentType.class)
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(Type.getType(type.getComponentType()));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "allOf", "(Ljava/lang/Class;)L" + LIST + ";", false);
+            mv.visitVarInsn(ASTORE, scratch);
+            if (((All) source).ignoreEmpty()) {
+                mv.visitVarInsn(ALOAD, scratch);
+                mv.visitMethodInsn(INVOKEINTERFACE, LIST, "isEmpty", "()Z", true);
+                mv.visitJumpInsn(IFNE, reject);
+            }
+            // value = list.toArray(new ComponentType[list.size()])
+            mv.visitVarInsn(ALOAD, scratch);
+            mv.visitVarInsn(ALOAD, scratch);
+            mv.visitMethodInsn(INVOKEINTERFACE, LIST, "size", "()I", true);
+            mv.visitTypeInsn(ANEWARRAY, Type.getInternalName(type.getComponentType()));
+            mv.visitMethodInsn(INVOKEINTERFACE, LIST, "toArray", "([Ljava/lang/Object;)[Ljava/lang/Object;", true);
+            mv.visitVarInsn(ASTORE, local);
+            typeFilter = new Class<?>[0];
+            inverse = false;
+        } else if (source instanceof Root) {
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "root", "()Ljava/lang/Object;", false);
+            mv.visitVarInsn(ASTORE, local);
+            generateInstanceCheck(mv, type, local, reject);
+            typeFilter = ((Root) source).typeFilter();
+            inverse = ((Root) source).inverse();
+        } else {
+            // Optional optional = cause.xxx(...)
+            mv.visitVarInsn(ALOAD, 2);
+            if (source instanceof First) {
+                mv.visitLdcInsn(asmType);
+                mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "first", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+                typeFilter = ((First) source).typeFilter();
+                inverse = ((First) source).inverse();
+            } else if (source instanceof Last) {
+                mv.visitLdcInsn(asmType);
+                mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "last", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+                typeFilter = ((Last) source).typeFilter();
+                inverse = ((Last) source).inverse();
+            } else if (source instanceof Named) {
+                mv.visitLdcInsn(((Named) source).value());
+                mv.visitLdcInsn(asmType);
+                mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "get", "(Ljava/lang/String;Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+                typeFilter = ((Named) source).typeFilter();
+                inverse = ((Named) source).inverse();
+            } else if (source instanceof Before) {
+                mv.visitLdcInsn(Type.getType(((Before) source).value()));
+                mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "before", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+                typeFilter = ((Before) source).typeFilter();
+                inverse = ((Before) source).inverse();
+            } else {
+                mv.visitLdcInsn(Type.getType(((After) source).value()));
+                mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "after", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+                typeFilter = ((After) source).typeFilter();
+                inverse = ((After) source).inverse();
+            }
+            // if (!optional.isPresent()) return; value = optional.get()
+            mv.visitVarInsn(ASTORE, scratch);
+            mv.visitVarInsn(ALOAD, scratch);
+            mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "isPresent", "()Z", false);
+            mv.visitJumpInsn(IFEQ, reject);
+            mv.visitVarInsn(ALOAD, scratch);
+            mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "get", "()Ljava/lang/Object;", false);
+            mv.visitVarInsn(ASTORE, local);
+            if (source instanceof Before || source instanceof After) {
+                generateInstanceCheck(mv, type, local, reject);
+            }
+        }
+
+        if (typeFilter.length > 0) {
+            Label matched = new Label();
+            Label passed = new Label();
+            for (Class<?> filterType : typeFilter) {
+                mv.visitVarInsn(ALOAD, local);
+                mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(filterType));
+                mv.visitJumpInsn(IFNE, matched);
+            }
+            mv.visitJumpInsn(GOTO, inverse ? passed : reject);
+            mv.visitLabel(matched);
+            if (inverse) {
+                mv.visitJumpInsn(GOTO, reject);
+            }
+            mv.visitLabel(passed);
+        }
+
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Has || annotation instanceof Supports) {
+                checkArgument(DataHolder.class.isAssignableFrom(type), "Data filters must annotate a data holder in %s", method);
+                mv.visitVarInsn(ALOAD, local);
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(DataHolder.class));
+                if (annotation instanceof Has) {
+                    mv.visitLdcInsn(Type.getType(((Has) annotation).value()));
+                    mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(DataHolder.class), "get",
+                            "(Ljava/lang/Class;)L" + OPTIONAL + ";", true);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "isPresent", "()Z", false);
+                    mv.visitJumpInsn(((Has) annotation).inverse() ? IFNE : IFEQ, reject);
+                } else {
+                    mv.visitLdcInsn(Type.getType(((Supports) annotation).value()));
+                    mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(DataHolder.class), "supports", "(Ljava/lang/Class;)Z", true);
+                    mv.visitJumpInsn(((Supports) annotation).inverse() ? IFNE : IFEQ, reject);
+                }
+            }
+        }
+    }
+
+    private static void generateInstanceCheck(MethodVisitor mv, Class<?> type, int local, Label reject) {
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+        mv.visitJumpInsn(IFEQ, reject);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import java.util.List;
+
+/**
+ * Generates a new instance of an event from its property values, passed
+ * positionally instead of through a map of property names.
+ *
+ * <p>The values are passed in the order of {@link #getParameterNames()},
+ * which is the order of the property names of the event, sorted
+ * alphabetically. Looking up the positional factory of an event once and
+ * keeping it in a {@code static final} field avoids building a map and
+ * resolving the factory every time an event is created.</p>
+ *
+ * @param <E> The type of event
+ */
+public interface PositionalEventFactory<E> {
+
+    /**
+     * Gets the names of the properties of the event, in the order their
+     * values are expected by {@link #create(Object...)}.
+     *
+     * @return The names of the properties
+     */
+    List<String> getParameterNames();
+
+    /**
+     * Creates a new instance of the event.
+     *
+     * @param arguments The values of the properties, in the order of
+     *     {@link #getParameterNames()}
+     * @return The new event
+     * @throws IllegalArgumentException If the number of values does not match
+     *     the number of properties
+     */
+    E create(Object... arguments);
+
+}
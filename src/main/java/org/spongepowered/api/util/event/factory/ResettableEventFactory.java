@@ -0,0 +1,53 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import org.spongepowered.api.event.Reusable;
+
+/**
+ * A {@link PositionalEventFactory} which can also reinitialize the events it
+ * created with new property values, so that they may be pooled and reused.
+ *
+ * <p>The factories generated by {@link ClassGeneratorProvider} implement
+ * this interface for events annotated with {@link Reusable}.</p>
+ *
+ * @param <E> The type of event
+ */
+public interface ResettableEventFactory<E> extends PositionalEventFactory<E> {
+
+    /**
+     * Reinitializes all of the properties of an event created by this
+     * factory, as if it had just been created by {@link #create(Object...)}
+     * with the same values.
+     *
+     * @param event The event to reinitialize
+     * @param arguments The values of the properties, in the order of
+     *     {@link #getParameterNames()}
+     * @throws IllegalArgumentException If the number of values does not match
+     *     the number of properties
+     */
+    void reset(E event, Object... arguments);
+
+}
@@ -24,6 +24,12 @@
  */
 package org.spongepowered.api.command;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -32,14 +38,28 @@
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.args.parsing.InputTokenizers;
 import org.spongepowered.api.command.dispatcher.SimpleDispatcher;
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 /**
  * Test for basic commandspec creation.
  */
 public class CommandSpecTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
     @Rule
     public ExpectedException expected = ExpectedException.none();
 
@@ -59,6 +79,93 @@ public CommandResult execute(CommandSource src, CommandContext args) throws Comm
         dispatcher.process(Mockito.mock(CommandSource.class), "cmd");
     }
 
+    @Test
+    public void testAsyncProcess() throws CommandException {
+        final Queue<Runnable> asyncTasks = new ArrayDeque<>();
+        final Queue<Runnable> syncTasks = new ArrayDeque<>();
+        final Executor asyncExecutor = asyncTasks::add;
+        final Executor syncExecutor = syncTasks::add;
+        final boolean[] executed = new boolean[1];
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((src, args) -> {
+                    executed[0] = true;
+                    return CommandResult.success();
+                })
+                .async(asyncExecutor, syncExecutor)
+                .build();
+
+        assertTrue(cmd.isAsync());
+        assertEquals(CommandResult.empty(), cmd.process(Mockito.mock(CommandSource.class), ""));
+        assertFalse(executed[0]);
+        assertEquals(1, asyncTasks.size());
+        asyncTasks.poll().run();
+        assertTrue(executed[0]);
+        assertTrue(syncTasks.isEmpty());
+    }
+
+    @Test
+    public void testAsyncErrorReported() throws CommandException {
+        final Queue<Runnable> syncTasks = new ArrayDeque<>();
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((src, args) -> {
+                    throw new CommandException(Text.of("failed"));
+                })
+                .async(Runnable::run, syncTasks::add)
+                .build();
+
+        CommandSource source = Mockito.mock(CommandSource.class);
+        cmd.process(source, "");
+        Mockito.verify(source, Mockito.never()).sendMessage(any(Text.class));
+        assertEquals(1, syncTasks.size());
+        syncTasks.poll().run();
+        Mockito.verify(source).sendMessage(any(Text.class));
+    }
+
+    @Test
+    public void testAsyncUsageReported() throws CommandException {
+        final Queue<Runnable> syncTasks = new ArrayDeque<>();
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((src, args) -> CommandResult.success())
+                .async(Runnable::run, syncTasks::add)
+                .build();
+
+        CommandSource source = Mockito.mock(CommandSource.class);
+        cmd.process(source, "extra");
+        assertEquals(1, syncTasks.size());
+        syncTasks.poll().run();
+        Mockito.verify(source, Mockito.times(2)).sendMessage(any(Text.class));
+    }
+
+    @Test
+    public void testAsyncEquality() {
+        final Executor asyncExecutor = Runnable::run;
+        final Executor syncExecutor = Runnable::run;
+        final CommandSpec.Builder builder = CommandSpec.builder()
+                .executor((src, args) -> CommandResult.success())
+                .inputTokenizer(InputTokenizers.rawInput());
+        CommandSpec first = builder.async(asyncExecutor, syncExecutor).build();
+        CommandSpec second = builder.async(asyncExecutor, syncExecutor).build();
+        CommandSpec other = builder.async(asyncExecutor, Runnable::run).build();
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    public void testProcessAsync() throws InterruptedException, ExecutionException {
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((src, args) -> CommandResult.success())
+                .build();
+
+        assertFalse(cmd.isAsync());
+        CompletableFuture<CommandResult> result = cmd.processAsync(Mockito.mock(CommandSource.class), "");
+        assertTrue(result.isDone());
+
+        this.expected.expect(ExecutionException.class);
+        this.expected.expectMessage("Too many arguments");
+        cmd.processAsync(Mockito.mock(CommandSource.class), "extra").get();
+    }
+
     @Test
     public void testExecutorRequired() {
         this.expected.expect(NullPointerException.class);
@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+
+public class ChoiceIndexTest {
+
+    private static final ChoiceIndex INDEX = ChoiceIndex.of(Arrays.asList(
+            "minecraft:stone", "minecraft:dirt", null, "Minecraft:Stone_Bricks", "mod:stone", "minecraft:sand"));
+
+    @Test
+    public void testChoices() {
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:dirt", "Minecraft:Stone_Bricks", "mod:stone", "minecraft:sand"),
+                INDEX.getChoices());
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals("minecraft:stone", INDEX.get("MINECRAFT:STONE"));
+        assertEquals("Minecraft:Stone_Bricks", INDEX.get("minecraft:stone_bricks"));
+        assertNull(INDEX.get("minecraft:ston"));
+    }
+
+    @Test
+    public void testPlainPrefix() {
+        assertEquals(ImmutableList.of("minecraft:stone", "Minecraft:Stone_Bricks", "minecraft:sand"), INDEX.match("minecraft:s"));
+        assertEquals(ImmutableList.of("minecraft:stone", "Minecraft:Stone_Bricks"), INDEX.match("^MINECRAFT:ST"));
+        assertEquals(INDEX.getChoices(), INDEX.match(""));
+        assertEquals(ImmutableList.of(), INDEX.match("other"));
+    }
+
+    @Test
+    public void testPattern() {
+        assertEquals(ImmutableList.of("minecraft:stone", "Minecraft:Stone_Bricks", "minecraft:sand"), INDEX.match("minecraft:s.*n"));
+        assertEquals(ImmutableList.of("minecraft:stone", "Minecraft:Stone_Bricks", "mod:stone"), INDEX.match(".*stone"));
+        assertEquals(ImmutableList.of("minecraft:dirt", "mod:stone"), INDEX.match("mod|.*dirt"));
+        assertEquals(ImmutableList.of("mod:stone"), INDEX.match("minecraftx?mod:stone|mod:stone"));
+        assertEquals(ImmutableList.of("mod:stone"), INDEX.match("modx?:"));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testInvalidPattern() {
+        INDEX.match("minecraft:(");
+    }
+
+    @Test
+    public void testIsIndexOf() {
+        ImmutableList<String> choices = ImmutableList.of("a", "b");
+        ChoiceIndex index = ChoiceIndex.of(choices);
+        assertTrue(index.isIndexOf(choices));
+        assertTrue(index.isIndexOf(Arrays.asList("a", "b")));
+        assertFalse(index.isIndexOf(Arrays.asList("a", "b", "c")));
+        assertTrue(INDEX.isIndexOf(Arrays.asList(
+                "minecraft:stone", "minecraft:dirt", null, "Minecraft:Stone_Bricks", "mod:stone", "minecraft:sand")));
+    }
+
+}
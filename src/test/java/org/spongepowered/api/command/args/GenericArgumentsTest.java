@@ -50,10 +50,12 @@
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.InputTokenizers;
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.List;
 
 /**
  * Tests for all argument types contained in GenericArguments.
@@ -90,6 +92,11 @@ private static CommandContext parseForInput(String input, CommandElement element
         return context;
     }
 
+    private static List<String> completeForInput(String input, CommandElement element) throws ArgumentParseException {
+        final CommandArgs args = new CommandArgs(input, InputTokenizers.quotedStrings(false).tokenize(input, true));
+        return element.complete(MOCK_SOURCE, args, new CommandContext());
+    }
+
     @Test(expected = CommandException.class)
     public void testNone() throws ArgumentParseException {
         parseForInput("a", none());
@@ -199,6 +206,15 @@ public void testEnumValue() throws ArgumentParseException {
         parseForInput("notanel", enumEl);
     }
 
+    @Test
+    public void testEnumValueComplete() throws ArgumentParseException {
+        CommandElement enumEl = enumValue(untr("val"), TestEnum.class);
+        assertEquals(ImmutableList.of("ONE", "TWO", "RED"), completeForInput("", enumEl));
+        assertEquals(ImmutableList.of("TWO"), completeForInput("t", enumEl));
+        assertEquals(ImmutableList.of("ONE", "RED"), completeForInput(".*e", enumEl));
+        assertEquals(ImmutableList.of(), completeForInput("(", enumEl));
+    }
+
     @Test
     public void testRemainingJoinedStrings() throws ArgumentParseException {
         CommandElement remainingJoined = remainingJoinedStrings(untr("val"));
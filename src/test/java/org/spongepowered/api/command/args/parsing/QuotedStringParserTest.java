@@ -102,4 +102,43 @@ public void testEscape() throws ArgumentParseException {
                 parseFrom("this demonstrates\\ escapes \\\"of 'various\\' characters\'"));
     }
 
+    @Test
+    public void testTrailingWhitespace() throws ArgumentParseException {
+        assertEquals(ImmutableList.of("first", "second"), parseFrom("  first \t second   "));
+    }
+
+    @Test
+    public void testEscapeAtEnd() throws ArgumentParseException {
+        this.expectedException.expect(ArgumentParseException.class);
+        this.expectedException.expectMessage("Buffer overrun");
+        parseFrom("trailing\\");
+    }
+
+    @Test
+    public void testLenientUnterminatedQuote() throws ArgumentParseException {
+        List<SingleArg> args = new QuotedStringTokenizer(true, true).tokenize("a 'still \\quoted", false);
+        assertEquals(2, args.size());
+        assertEquals("still quoted", args.get(1).getValue());
+        assertEquals(2, args.get(1).getStartIdx());
+        assertEquals(15, args.get(1).getEndIdx());
+    }
+
+    @Test
+    public void testArgumentIndexes() throws ArgumentParseException {
+        List<SingleArg> args = new QuotedStringTokenizer(true, false).tokenize("ab 'c d' e\\f", false);
+        assertEquals(ImmutableList.of("ab", "c d", "ef"), Lists.transform(args, SingleArg::getValue));
+        assertEquals(0, args.get(0).getStartIdx());
+        assertEquals(2, args.get(0).getEndIdx());
+        assertEquals(3, args.get(1).getStartIdx());
+        assertEquals(7, args.get(1).getEndIdx());
+        assertEquals(9, args.get(2).getStartIdx());
+        assertEquals(11, args.get(2).getEndIdx());
+    }
+
+    @Test
+    public void testSupplementaryCharacters() throws ArgumentParseException {
+        String smiley = new String(Character.toChars(0x1F600));
+        assertEquals(ImmutableList.of(smiley + "a", smiley), parseFrom(smiley + "a \\" + smiley));
+    }
+
 }
@@ -24,47 +24,32 @@
  */
 package org.spongepowered.api.command.args.parsing;
 
-import org.spongepowered.api.text.Text;
-import org.spongepowered.api.command.args.ArgumentParseException;
-
-class TokenizerState {
-    private final boolean lenient;
-    private final String buffer;
-    private int index = -1;
+import static org.junit.Assert.assertEquals;
 
-    public TokenizerState(String buffer, boolean lenient) {
-        this.buffer = buffer;
-        this.lenient = lenient;
-    }
-
-    // Utility methods
-    public boolean hasMore() {
-        return this.index + 1 < this.buffer.length();
-    }
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.command.args.ArgumentParseException;
 
-    public int peek() throws ArgumentParseException {
-        if (!hasMore()) {
-            throw createException(Text.of("Buffer overrun while parsing args"));
-        }
-        return this.buffer.codePointAt(this.index + 1);
-    }
+import java.util.List;
 
-    public int next() throws ArgumentParseException {
-        if (!hasMore()) {
-            throw createException(Text.of("Buffer overrun while parsing args"));
-        }
-        return this.buffer.codePointAt(++this.index);
-    }
+public class SpaceSplitInputTokenizerTest {
 
-    public ArgumentParseException createException(Text message) {
-        return new ArgumentParseException(message, this.buffer, this.index);
+    @Test
+    public void testEmptyString() throws ArgumentParseException {
+        assertEquals(ImmutableList.of(), SpaceSplitInputTokenizer.INSTANCE.tokenize("", false));
     }
 
-    public boolean isLenient() {
-        return this.lenient;
+    @Test
+    public void testSplit() throws ArgumentParseException {
+        List<SingleArg> args = SpaceSplitInputTokenizer.INSTANCE.tokenize("first 'second third", false);
+        assertEquals(ImmutableList.of("first", "'second", "third"), Lists.transform(args, SingleArg::getValue));
+        assertEquals(0, args.get(0).getStartIdx());
+        assertEquals(5, args.get(0).getEndIdx());
+        assertEquals(6, args.get(1).getStartIdx());
+        assertEquals(13, args.get(1).getEndIdx());
+        assertEquals(14, args.get(2).getStartIdx());
+        assertEquals(18, args.get(2).getEndIdx());
     }
 
-    public int getIndex() {
-        return this.index;
-    }
 }
@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AliasTrieTest {
+
+    private static List<String> withPrefix(AliasTrie<?> trie, String prefix) {
+        List<String> aliases = new ArrayList<>();
+        trie.forEachWithPrefix(prefix, (alias, values) -> aliases.add(alias));
+        return aliases;
+    }
+
+    @Test
+    public void testGet() {
+        AliasTrie<Integer> trie = AliasTrie.<Integer>empty()
+                .with("test", 1)
+                .with("team", 2)
+                .with("te", 3)
+                .with("Test", 4);
+        assertEquals(ImmutableList.of(1, 4), trie.get("TEST"));
+        assertEquals(ImmutableList.of(2), trie.get("team"));
+        assertEquals(ImmutableList.of(3), trie.get("te"));
+        assertTrue(trie.get("t").isEmpty());
+        assertTrue(trie.get("tests").isEmpty());
+        assertTrue(trie.get("").isEmpty());
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void testImmutable() {
+        AliasTrie<Integer> first = AliasTrie.<Integer>empty().with("test", 1);
+        AliasTrie<Integer> second = first.with("testing", 2).with("test", 3);
+        assertEquals(ImmutableList.of(1), first.get("test"));
+        assertTrue(first.get("testing").isEmpty());
+        assertEquals(ImmutableList.of(1, 3), second.get("test"));
+        assertTrue(AliasTrie.empty().get("test").isEmpty());
+    }
+
+    @Test
+    public void testForEachWithPrefix() {
+        AliasTrie<Integer> trie = AliasTrie.empty();
+        for (String alias : new String[] {"weather", "whitelist", "who", "tp", "tell", "teleport", "w"}) {
+            trie = trie.with(alias, 0);
+        }
+        assertEquals(ImmutableList.of("w", "weather", "whitelist", "who"), withPrefix(trie, "w"));
+        assertEquals(ImmutableList.of("whitelist", "who"), withPrefix(trie, "WH"));
+        assertEquals(ImmutableList.of("whitelist"), withPrefix(trie, "whi"));
+        assertEquals(ImmutableList.of("teleport", "tell"), withPrefix(trie, "tel"));
+        assertEquals(ImmutableList.of(), withPrefix(trie, "tex"));
+        assertEquals(ImmutableList.of(), withPrefix(trie, "whitelists"));
+        assertEquals(7, withPrefix(trie, "").size());
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SimpleDispatcherTest {
+
+    private static CommandCallable callable(boolean permitted) {
+        CommandCallable callable = mock(CommandCallable.class);
+        when(callable.testPermission(any(CommandSource.class))).thenReturn(permitted);
+        return callable;
+    }
+
+    @Test
+    public void testGetAndContains() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        CommandMapping mapping = dispatcher.register(callable(true), "Teleport", "tp").get();
+        assertSame(mapping, dispatcher.get("teleport").get());
+        assertSame(mapping, dispatcher.get("TP").get());
+        assertTrue(dispatcher.containsAlias("Tp"));
+        assertFalse(dispatcher.containsAlias("t"));
+        assertFalse(dispatcher.get("tele").isPresent());
+    }
+
+    @Test
+    public void testRemove() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        CommandMapping mapping = dispatcher.register(callable(true), "teleport", "tp").get();
+        dispatcher.register(callable(true), "tell");
+        assertEquals(ImmutableList.of(mapping), ImmutableList.copyOf(dispatcher.remove("TP")));
+        assertFalse(dispatcher.containsAlias("tp"));
+        assertTrue(dispatcher.containsAlias("teleport"));
+        assertTrue(dispatcher.removeMapping(mapping).isPresent());
+        assertFalse(dispatcher.containsAlias("teleport"));
+        assertTrue(dispatcher.containsAlias("tell"));
+    }
+
+    @Test
+    public void testDisambiguate() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(callable(true), "plugin:help", "help");
+        CommandMapping primary = dispatcher.register(callable(true), "help").get();
+        assertSame(primary, dispatcher.get("help").get());
+    }
+
+    @Test
+    public void testSuggestions() throws CommandException {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(callable(true), "weather", "w");
+        dispatcher.register(callable(false), "whitelist");
+        dispatcher.register(callable(true), "who");
+        dispatcher.register(callable(true), "tp");
+        CommandSource source = mock(CommandSource.class);
+        assertEquals(ImmutableList.of("w", "weather", "who"), dispatcher.getSuggestions(source, "w"));
+        assertEquals(ImmutableList.of("who"), dispatcher.getSuggestions(source, "WH"));
+        assertEquals(ImmutableList.of(), dispatcher.getSuggestions(source, "x"));
+    }
+
+    @Test
+    public void testSuggestionsManyAliases() throws CommandException {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        for (int plugin = 0; plugin < 60; plugin++) {
+            for (int command = 0; command < 50; command++) {
+                dispatcher.register(callable(true), "plugin" + plugin + ":command" + command, "p" + plugin + "c" + command);
+            }
+        }
+        CommandSource source = mock(CommandSource.class);
+        List<String> suggestions = dispatcher.getSuggestions(source, "plugin42:command1");
+        assertEquals(11, suggestions.size());
+        assertEquals("plugin42:command1", suggestions.get(0));
+        assertEquals(6000, dispatcher.getSuggestions(source, "").size());
+        assertTrue(dispatcher.containsAlias("p59c49"));
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        CommandCallable callable = callable(true);
+        for (int i = 0; i < 1000; i++) {
+            dispatcher.register(callable, "command" + i);
+        }
+
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            // Keep registering and removing commands while the others read
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    CommandMapping mapping = dispatcher.register(callable, "extra" + i).get();
+                    dispatcher.removeMapping(mapping);
+                }
+            }));
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        String alias = "command" + (i % 1000);
+                        assertEquals(alias, dispatcher.get(alias).get().getPrimaryAlias());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1000, dispatcher.size());
+        assertEquals(1000, dispatcher.getCommands().size());
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.data.translator.BinaryDataReader;
+import org.spongepowered.api.data.translator.BinaryTranslator;
+import org.spongepowered.api.util.persistence.InvalidDataException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class BinaryDataViewTest {
+
+    private static DataContainer createContainer() {
+        List<String> stringList = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            stringList.add("String" + i);
+        }
+        List<SimpleData> dataList = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            dataList.add(new SimpleData(i, 10.0 + i, "String" + i, Collections.<String>emptyList()));
+        }
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "byte"), (byte) 1)
+                .set(of("foo", "short"), (short) 2)
+                .set(of("foo", "int"), 3)
+                .set(of("foo", "long"), Long.MAX_VALUE)
+                .set(of("foo", "float"), 4.0F)
+                .set(of("foo", "double"), 10.0D)
+                .set(of("foo", "boolean"), true)
+                .set(of("foo", "char"), 'c')
+                .set(of("foo", "string"), "été")
+                .set(of("foo", "stringList"), stringList)
+                .set(of("foo", "nestedList"), ImmutableList.of(ImmutableList.of(1, 2), ImmutableList.of("a")))
+                .set(of("foo", "mapList"), ImmutableList.of(ImmutableMap.of("key", "value")))
+                .set(of("foo", "nested", "Data"), dataList);
+        return container;
+    }
+
+    @Test
+    public void testBufferRoundTrip() {
+        DataContainer container = createContainer();
+        ByteBuffer buffer = BinaryTranslator.instance().translateData(container);
+        DataView translated = BinaryTranslator.instance().translateFrom(buffer);
+        assertTrue(container.equals(translated));
+    }
+
+    @Test
+    public void testLazyArrayEquality() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "bytes"), new byte[] {1, 2, 3})
+                .set(of("foo", "ints"), new int[] {4, 5, 6});
+        DataContainer lazy = BinaryTranslator.instance().translateLazily(BinaryTranslator.instance().translateData(container));
+        assertTrue(lazy.equals(container));
+        assertTrue(container.equals(lazy));
+        assertTrue(lazy.hashCode() == container.hashCode());
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testOversizedArrayLength() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("bytes"), new byte[] {1, 2, 3});
+        ByteBuffer buffer = BinaryTranslator.instance().translateData(container);
+        for (int i = 0; i + 7 <= buffer.limit(); i++) {
+            if (buffer.getInt(i) == 3 && buffer.get(i + 4) == 1 && buffer.get(i + 5) == 2 && buffer.get(i + 6) == 3) {
+                buffer.putInt(i, Integer.MAX_VALUE);
+            }
+        }
+        BinaryTranslator.instance().translateFrom(buffer);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testLazyTruncatedBuffer() {
+        ByteBuffer buffer = BinaryTranslator.instance().translateData(createContainer());
+        buffer.limit(buffer.limit() / 2);
+        BinaryTranslator.instance().translateLazily(buffer).getKeys(false);
+    }
+
+    @Test(expected = InvalidDataException.class, timeout = 10000)
+    public void testLazyNegativeKeyLength() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "bar"), 1)
+                .set(of("baz"), 2);
+        ByteBuffer buffer = BinaryTranslator.instance().translateData(container);
+        for (int i = 0; i + 7 <= buffer.limit(); i++) {
+            if (buffer.getInt(i) == 3 && buffer.get(i + 4) == 'b' && buffer.get(i + 5) == 'a' && buffer.get(i + 6) == 'r') {
+                buffer.putInt(i, -9);
+            }
+        }
+        BinaryTranslator.instance().translateLazily(buffer).getKeys(false);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTruncatedBuffer() {
+        ByteBuffer buffer = BinaryTranslator.instance().translateData(createContainer());
+        buffer.limit(buffer.limit() / 2);
+        BinaryTranslator.instance().translateFrom(buffer);
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws Exception {
+        DataContainer container = createContainer();
+        byte[] bytes = new byte[20000];
+        Arrays.fill(bytes, (byte) 7);
+        long[] longs = new long[5000];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = i * 31L;
+        }
+        container.set(of("arrays", "bytes"), bytes);
+        container.set(of("arrays", "longs"), longs);
+        container.set(of("arrays", "booleans"), new boolean[] {true, false, true});
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryTranslator.instance().write(container, Channels.newChannel(out));
+        DataContainer translated = BinaryTranslator.instance().read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        assertTrue(container.getView(of("foo")).equals(translated.getView(of("foo"))));
+        assertTrue(Arrays.equals(bytes, (byte[]) translated.get(of("arrays", "bytes")).get()));
+        assertTrue(Arrays.equals(longs, (long[]) translated.get(of("arrays", "longs")).get()));
+        assertTrue(Arrays.equals(new boolean[] {true, false, true}, (boolean[]) translated.get(of("arrays", "booleans")).get()));
+    }
+
+    @Test
+    public void testReaderSkip() throws Exception {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("skipped", "value"), 1);
+        container.set(of("list"), ImmutableList.of(1, 2, 3));
+        container.set(of("wanted"), "found");
+        BinaryDataReader reader = new BinaryDataReader(BinaryTranslator.instance().translateData(container));
+
+        assertTrue(reader.next() == BinaryDataReader.Token.BEGIN_VIEW);
+        assertTrue(reader.next() == BinaryDataReader.Token.BEGIN_VIEW);
+        assertTrue("skipped".equals(reader.getKey()));
+        reader.skip();
+        assertTrue(reader.next() == BinaryDataReader.Token.BEGIN_LIST);
+        reader.skip();
+        assertTrue(reader.next() == BinaryDataReader.Token.VALUE);
+        assertTrue("wanted".equals(reader.getKey()));
+        assertTrue("found".equals(reader.getValue()));
+        assertTrue(reader.next() == BinaryDataReader.Token.END_VIEW);
+        assertTrue(reader.next() == BinaryDataReader.Token.END_DOCUMENT);
+    }
+
+    @Test
+    public void testLazyContainer() {
+        DataContainer container = createContainer();
+        int[] ints = new int[] {1, 2, 3, 4};
+        container.set(of("arrays", "ints"), ints);
+        SimpleData data = new SimpleData(1, 2.0, "String", Arrays.asList("a", "b"));
+        container.set(of("data"), data);
+
+        DataContainer lazy = BinaryTranslator.instance().translateLazily(BinaryTranslator.instance().translateData(container));
+        assertTrue(lazy.getKeys(false).equals(container.getKeys(false)));
+        assertTrue(lazy.getKeys(true).equals(container.getKeys(true)));
+        assertTrue(lazy.contains(of("foo", "nested", "Data")));
+        assertTrue(!lazy.contains(of("foo", "missing")));
+        assertTrue(lazy.getInt(of("foo", "int")).get() == 3);
+        assertTrue(lazy.getStringList(of("foo", "stringList")).get().equals(container.getStringList(of("foo", "stringList")).get()));
+        assertTrue(lazy.getView(of("foo")).get().getCurrentPath().equals(of("foo")));
+        assertTrue(lazy.getIntBuffer(of("arrays", "ints")).get().get(3) == 4);
+        assertTrue(Arrays.equals(ints, (int[]) lazy.get(of("arrays", "ints")).get()));
+        assertTrue(new SimpleDataBuilder().build(lazy.getView(of("data")).get()).get().equals(data));
+
+        DataContainer copy = lazy.copy();
+        assertTrue(copy.getView(of("foo")).equals(container.getView(of("foo"))));
+    }
+
+    @Test
+    public void testLazyContainerEquality() {
+        DataContainer container = createContainer();
+        DataContainer lazy = BinaryTranslator.instance().translateLazily(BinaryTranslator.instance().translateData(container));
+        assertTrue(lazy.equals(container));
+        assertTrue(container.equals(lazy));
+        assertTrue(lazy.hashCode() == container.hashCode());
+        assertTrue(lazy.getView(of("foo")).get().equals(container.getView(of("foo")).get()));
+
+        container.set(of("foo", "int"), 4);
+        assertTrue(!lazy.equals(container));
+        assertTrue(!container.equals(lazy));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyContainerIsReadOnly() {
+        DataContainer lazy = BinaryTranslator.instance().translateLazily(BinaryTranslator.instance().translateData(createContainer()));
+        lazy.set(of("foo"), 1);
+    }
+
+}
@@ -154,4 +154,27 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    /**
+     * Method: intern()
+     */
+    @Test
+    public void testIntern() {
+        DataQuery query1 = DataQuery.of("this", "test");
+        DataQuery query2 = DataQuery.of('.', "this.test");
+        assertThat(query1.intern() == query2.intern(), is(true));
+        assertThat(query1.intern().equals(query1), is(true));
+        assertThat(DataQuery.of().intern() == DataQuery.of(), is(true));
+    }
+
+    /**
+     * Method: getDepth(), getPart(int index)
+     */
+    @Test
+    public void testGetDepth() {
+        DataQuery query = DataQuery.of("this", "test", "query");
+        assertThat(query.getDepth(), is(3));
+        assertThat(query.getPart(1), is("test"));
+        assertThat(DataQuery.of().getDepth(), is(0));
+    }
+
 }
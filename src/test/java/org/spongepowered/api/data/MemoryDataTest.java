@@ -42,6 +42,7 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.util.persistence.DataBuilder;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -239,6 +240,39 @@ public void testContainsEmpty() {
         assertTrue(container.contains(query));
     }
 
+    @Test
+    public void testNestedRemove() {
+        DataContainer container = new MemoryDataContainer();
+        DataQuery query = of("foo", "bar", "baz");
+        container.set(query, 1);
+        container.set(of("foo", "bar", "qux"), 2);
+        assertTrue(container.contains(query));
+        container.remove(query);
+        assertTrue(!container.contains(query));
+        assertTrue(container.contains(of("foo", "bar", "qux")));
+        container.remove(of("foo", "missing", "baz"));
+        assertTrue(container.getView(of("foo", "bar")).get().getCurrentPath().equals(of("foo", "bar")));
+    }
+
+    @Test
+    public void testArrayBuffers() {
+        DataContainer container = new MemoryDataContainer();
+        DataQuery query = of("foo", "bar");
+        byte[] bytes = new byte[] {1, 2, 3};
+        container.set(query, bytes);
+        bytes[0] = 4;
+        ByteBuffer buffer = container.getByteBuffer(query).get();
+        assertTrue(buffer.isReadOnly());
+        assertTrue(buffer.remaining() == 3);
+        assertTrue(buffer.get(0) == 1);
+        assertTrue(!container.getIntBuffer(query).isPresent());
+        assertTrue(!container.getByteBuffer(of("foo", "baz")).isPresent());
+
+        container.set(query, new long[] {5L, 6L});
+        assertTrue(buffer.get(0) == 1);
+        assertTrue(container.getLongBuffer(query).get().get(1) == 6L);
+    }
+
     @Test
     public void testGetName() {
         DataContainer container = new MemoryDataContainer();
@@ -409,4 +443,21 @@ public void testDeepSerialization() {
         Map<?, ?> map = main.getMap(of()).get();
     }
 
+    @Test
+    public void testArrayHashCode() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("bytes"), new byte[] {1, 2, 3});
+        DataContainer other = new MemoryDataContainer();
+        other.set(of("bytes"), new byte[] {1, 2, 3});
+
+        assertTrue(container.hashCode() == container.hashCode());
+        assertTrue(container.equals(other));
+        assertTrue(container.hashCode() == other.hashCode());
+
+        Set<DataView> views = Sets.newHashSet();
+        views.add(container);
+        assertTrue(views.contains(container));
+        assertTrue(views.contains(other));
+    }
+
 }
@@ -218,5 +218,43 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testRepeatedTypedQueries() {
+        final Cause cause = Cause.of(NamedCause.source("foo"), NamedCause.of("Bar", 1), NamedCause.of("Baz", "baz"), NamedCause.of("Qux", 2));
+        for (int i = 0; i < 2; i++) {
+            assertThat(cause.first(String.class).get(), is("foo"));
+            assertThat(cause.last(String.class).get(), is("baz"));
+            assertThat(cause.allOf(Integer.class), equalTo(ImmutableList.of(1, 2)));
+            assertThat(cause.before(Integer.class).get(), is("foo"));
+            assertThat(cause.after(Integer.class).get(), is("baz"));
+            assertThat(cause.containsType(Player.class), is(false));
+            assertThat(cause.get("bar", Integer.class).get(), is(1));
+            assertThat(cause.get("Bar", String.class).isPresent(), is(false));
+            assertThat(cause.before("Qux").get(), is("baz"));
+            assertThat(cause.after("Qux").isPresent(), is(false));
+            assertThat(cause.before(NamedCause.SOURCE).isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void testDeepMerge() {
+        Cause cause = Cause.of(NamedCause.source("root"));
+        cause = cause.merge(Cause.of(NamedCause.source("other")));
+        assertThat(cause.get("AdditionalSource", String.class).get(), is("other"));
+        for (int i = 0; i < 100; i++) {
+            cause = cause.merge(Cause.of(NamedCause.of("Step" + i, i), NamedCause.of("Extra" + i, "extra")));
+        }
+        assertThat(cause.all(), hasSize(202));
+        assertThat(cause.root(), is("root"));
+        assertThat(cause.get("Step99", Integer.class).get(), is(99));
+        assertThat(cause.after("Step1").get(), is("extra"));
+        assertThat(cause.last(Integer.class).get(), is(99));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateNamesWith() {
+        Cause.of(NamedCause.source("foo")).with(NamedCause.source("bar"));
+    }
+
 
 }
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.timing;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.action.CollideEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EventTimingsTest {
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+
+    @Test
+    public void testDisabled() throws Exception {
+        EventTimings timings = new EventTimings();
+        AtomicInteger calls = new AtomicInteger();
+        EventListener<Event> listener = event -> calls.incrementAndGet();
+
+        timings.getTimer(this.plugin, listener, "listener").handle(listener, Mockito.mock(Event.class));
+
+        assertThat(calls.get(), is(1));
+        assertThat(timings.getTimings(), hasSize(0));
+    }
+
+    @Test
+    public void testRecordPerEventType() throws Exception {
+        EventTimings timings = new EventTimings();
+        timings.setEnabled(true);
+        EventListener<Event> listener = event -> Thread.sleep(1);
+        ListenerTimer timer = timings.getTimer(this.plugin, listener, "listener");
+
+        Event event = Mockito.mock(Event.class);
+        for (int i = 0; i < 3; i++) {
+            timer.handle(listener, event);
+        }
+        timer.handle(listener, Mockito.mock(CollideEvent.class));
+
+        List<ListenerTimings> results = timings.getTimings();
+        assertThat(results, hasSize(2));
+        for (ListenerTimings result : results) {
+            long expected = result.getEventType() == event.getClass() ? 3 : 1;
+            assertThat(result.getPlugin(), is(this.plugin));
+            assertThat(result.getListener(), is("listener"));
+            assertThat(result.getInvocations(), is(expected));
+            assertThat(result.getMaxNanos(), is(greaterThanOrEqualTo(1000000L)));
+            assertThat(result.getTotalNanos(), is(greaterThanOrEqualTo(expected * 1000000L)));
+            assertThat(result.getPercentileNanos(0.5), is(lessThanOrEqualTo(result.getMaxNanos())));
+            assertThat(result.getPercentileNanos(1), is(result.getMaxNanos()));
+            assertThat(result.getPercentileNanos(0.5) * 2, is(greaterThan(1000000L)));
+            assertThat(result.getAllocatedBytes().isPresent(), is(false));
+        }
+
+        timings.reset();
+        assertThat(timings.getTimings(), hasSize(0));
+    }
+
+    @Test
+    public void testSameTimer() {
+        EventTimings timings = new EventTimings();
+        EventListener<Event> listener = event -> { };
+        assertThat(timings.getTimer(this.plugin, listener, "listener") == timings.getTimer(this.plugin, listener, "listener"), is(true));
+    }
+
+    @Test
+    public void testRecordFailure() throws Exception {
+        EventTimings timings = new EventTimings();
+        timings.setEnabled(true);
+        EventListener<Event> listener = event -> {
+            throw new IllegalStateException();
+        };
+        try {
+            timings.getTimer(this.plugin, listener, "listener").handle(listener, Mockito.mock(Event.class));
+            fail();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        assertThat(timings.getTimings().get(0).getInvocations(), is(1L));
+    }
+
+    @Test
+    public void testTrackAllocations() throws Exception {
+        EventTimings timings = new EventTimings();
+        assumeTrue(timings.isAllocationTrackingSupported());
+        timings.setEnabled(true);
+        timings.setTrackAllocations(true);
+        List<Object> retained = new ArrayList<>();
+        EventListener<Event> listener = event -> retained.add(new byte[4096]);
+
+        timings.getTimer(this.plugin, listener, "listener").handle(listener, Mockito.mock(Event.class));
+
+        assertThat(timings.getTimings().get(0).getAllocatedBytes().getAsLong(), is(greaterThanOrEqualTo(4096L)));
+    }
+
+}
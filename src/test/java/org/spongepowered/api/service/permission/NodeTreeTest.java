@@ -107,4 +107,45 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testGetIgnoresCase() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.sunset", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        assertEquals(Tristate.FALSE, nodes.get("Generate.Sunset."));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.rain"));
+        assertEquals(Tristate.UNDEFINED, nodes.get(""));
+    }
+
+    @Test
+    public void testManySiblings() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        final Map<String, Tristate> newPermissions = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            testPermissions.put("generate.biome" + i, i % 2 == 0);
+            newPermissions.put("generate.biome" + i + ".large", Tristate.fromBoolean(i % 3 == 0));
+        }
+        // Distinct segments sharing the same hash code
+        testPermissions.put("generate.a~", true);
+        testPermissions.put("generate.b_", false);
+
+        NodeTree oldTree = NodeTree.of(testPermissions);
+        NodeTree newTree = oldTree.withAll(newPermissions);
+
+        assertEquals(testPermissions, oldTree.asMap());
+        assertEquals(Tristate.TRUE, oldTree.get("generate.a~"));
+        assertEquals(Tristate.FALSE, oldTree.get("generate.b_"));
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(Tristate.fromBoolean(i % 2 == 0), oldTree.get("generate.biome" + i + ".large"));
+            assertEquals(Tristate.fromBoolean(i % 3 == 0), newTree.get("generate.biome" + i + ".large"));
+        }
+        assertEquals(Tristate.TRUE, newTree.get("generate.a~.large"));
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PermissionCacheTest {
+
+    private static final Set<Context> WORLD = ImmutableSet.of(new Context(Context.WORLD_KEY, "overworld"));
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        Subject subject = mock(Subject.class);
+        when(subject.getParents(WORLD)).thenReturn(Collections.emptyList());
+        AtomicInteger resolved = new AtomicInteger();
+        PermissionCache cache = new PermissionCache(16, (s, contexts, permission) -> {
+            resolved.incrementAndGet();
+            return Tristate.TRUE;
+        });
+
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(subject, WORLD, "generate.rainbow"));
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(subject, WORLD, "generate.rainbow"));
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(subject, WORLD, "generate.sunset"));
+
+        assertEquals(2, resolved.get());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testInvalidateParent() throws Exception {
+        Subject parent = mock(Subject.class);
+        Subject child = mock(Subject.class);
+        Subject other = mock(Subject.class);
+        when(parent.getParents(WORLD)).thenReturn(Collections.emptyList());
+        when(child.getParents(WORLD)).thenReturn(ImmutableList.of(parent));
+        when(other.getParents(WORLD)).thenReturn(Collections.emptyList());
+        AtomicInteger resolved = new AtomicInteger();
+        PermissionCache cache = new PermissionCache(16, (s, contexts, permission) -> {
+            resolved.incrementAndGet();
+            return Tristate.FALSE;
+        });
+
+        cache.getPermissionValue(child, WORLD, "generate.rainbow");
+        cache.getPermissionValue(other, WORLD, "generate.rainbow");
+        assertEquals(2, cache.size());
+
+        cache.invalidate(parent);
+        assertEquals(1, cache.size());
+
+        cache.getPermissionValue(child, WORLD, "generate.rainbow");
+        cache.getPermissionValue(other, WORLD, "generate.rainbow");
+        assertEquals(3, resolved.get());
+    }
+
+    @Test
+    public void testInvalidateAncestor() throws Exception {
+        Subject grandparent = mock(Subject.class);
+        Subject parent = mock(Subject.class);
+        Subject child = mock(Subject.class);
+        when(grandparent.getParents(WORLD)).thenReturn(ImmutableList.of(child));
+        when(parent.getParents(WORLD)).thenReturn(ImmutableList.of(grandparent));
+        when(child.getParents(WORLD)).thenReturn(ImmutableList.of(parent));
+        AtomicInteger resolved = new AtomicInteger();
+        PermissionCache cache = new PermissionCache(16, (s, contexts, permission) -> {
+            resolved.incrementAndGet();
+            return Tristate.TRUE;
+        });
+
+        // The inheritance cycle back to the child must not loop forever
+        cache.getPermissionValue(child, WORLD, "generate.rainbow");
+        assertEquals(1, cache.size());
+
+        cache.invalidate(grandparent);
+        assertEquals(0, cache.size());
+
+        cache.getPermissionValue(child, WORLD, "generate.rainbow");
+        assertEquals(2, resolved.get());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        Subject subject = mock(Subject.class);
+        when(subject.getParents(WORLD)).thenReturn(Collections.emptyList());
+        PermissionCache cache = new PermissionCache(1, (s, contexts, permission) -> Tristate.UNDEFINED);
+
+        cache.getPermissionValue(subject, WORLD, "generate.rainbow");
+        cache.getPermissionValue(subject, WORLD, "generate.sunset");
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getStats().evictionCount());
+    }
+
+    @Test
+    public void testSubjectDataUpdate() throws Exception {
+        Subject subject = mock(Subject.class);
+        when(subject.getParents(WORLD)).thenReturn(Collections.emptyList());
+        MemorySubjectData data = new MemorySubjectData(mock(PermissionService.class));
+        PermissionCache cache = new PermissionCache(16, (s, contexts, permission) -> data.getNodeTree(contexts).get(permission));
+        data.addUpdateListener(() -> cache.invalidate(subject));
+
+        assertEquals(Tristate.UNDEFINED, cache.getPermissionValue(subject, WORLD, "generate.rainbow"));
+        data.setPermission(WORLD, "generate", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(subject, WORLD, "generate.rainbow"));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class TextTemplateTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final TextStyle BOLD = new TextStyle(true, null, null, null, null);
+
+    private final TextTemplate template = TextTemplate.of(
+            TextTemplate.arg("name").style(BOLD), ": ",
+            TextTemplate.arg("message"), " (",
+            TextTemplate.arg("channel").optional().defaultValue(Text.of("global")), ")");
+
+    @Test
+    public void testCompileCached() {
+        assertSame(this.template.compile(), this.template.compile());
+        assertSame(this.template, this.template.compile().getTemplate());
+    }
+
+    @Test
+    public void testSlots() {
+        TextTemplate.Compiled compiled = TextTemplate.of(
+                TextTemplate.arg("b"), TextTemplate.arg("a"), TextTemplate.arg("b")).compile();
+        assertEquals(ImmutableList.of("b", "a"), compiled.getSlotNames());
+        assertEquals(1, (int) compiled.getSlot("a").get());
+        assertEquals(false, compiled.getSlot("c").isPresent());
+    }
+
+    @Test
+    public void testApplyPositional() {
+        Text expected = this.template.apply(ImmutableMap.of("name", Text.of("Steve"), "message", Text.of("Hello"),
+                "channel", Text.of("local"))).build();
+        Text actual = this.template.compile().apply(Text.of("Steve"), Text.of("Hello"), Text.of("local")).build();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testApplyDefault() {
+        Text expected = this.template.apply(ImmutableMap.of("name", Text.of("Steve"), "message", Text.of("Hello"))).build();
+        assertEquals(expected, this.template.compile().apply(Text.of("Steve"), Text.of("Hello"), null).build());
+    }
+
+    @Test
+    public void testApplyParameters() {
+        TextTemplate.Compiled compiled = this.template.compile();
+        TextTemplate.Parameters params = compiled.newParameters().set("name", Text.of("Steve"));
+        for (int i = 0; i < 100; i++) {
+            Text message = Text.of("Message " + i);
+            params.set(1, message);
+            Text expected = this.template.apply(ImmutableMap.of("name", Text.of("Steve"), "message", message)).build();
+            assertEquals(expected, compiled.apply(params).build());
+        }
+    }
+
+    @Test
+    public void testApplyStaticFirst() {
+        TextTemplate template = TextTemplate.of("Hello ", TextTemplate.arg("name"), Text.of("!"));
+        assertEquals(template.apply(ImmutableMap.of("name", Text.of("world"))).build(),
+                template.compile().apply(Text.of("world")).build());
+        assertEquals(TextTemplate.of().apply().build(), TextTemplate.of().compile().apply().build());
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testApplyMissingRequired() {
+        TextTemplate.Compiled compiled = this.template.compile();
+        compiled.apply(compiled.newParameters().set("message", Text.of("Hello")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApplyWrongCount() {
+        this.template.compile().apply(Text.of("Steve"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetUnknownName() {
+        this.template.compile().newParameters().set("unknown", Text.of("Steve"));
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.translation.Translation;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TextTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    @Test
+    public void testToPlainCached() {
+        Text text = Text.builder("Hello ").append(Text.of("world")).build();
+        assertEquals("Hello world", text.toPlain());
+        assertSame(text.toPlain(), text.toPlain());
+    }
+
+    @Test
+    public void testToPlainLongNotCached() {
+        Text text = Text.of(Strings.repeat("a", Text.MAX_CACHED_PLAIN_LENGTH + 1));
+        assertEquals(text.toPlain(), text.toPlain());
+        assertNotSame(text.toPlain(), text.toPlain());
+    }
+
+    @Test
+    public void testToPlainScoreNotCached() {
+        Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1, 2);
+        Text text = Text.builder("Score: ").append(Text.of(score)).build();
+        assertEquals("Score: 1", text.toPlain());
+        assertEquals("Score: 2", text.toPlain());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        Text first = Text.builder("Hello ").append(Text.of("world")).build();
+        Text second = Text.builder("Hello ").append(Text.of("world")).build();
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first.hashCode(), first.hashCode());
+
+        Text other = Text.builder("Hello ").append(Text.of("there")).build();
+        other.hashCode();
+        assertNotEquals(first, other);
+        assertNotEquals(other, first);
+    }
+
+    @Test
+    public void testHashCodeTranslatableNotCached() {
+        Translation translation = mock(Translation.class);
+        List<String> argument = new ArrayList<>(Arrays.asList("a"));
+        Text first = Text.of(translation, argument);
+        Text second = Text.of(translation, new ArrayList<>(Arrays.asList("b")));
+        first.hashCode();
+        second.hashCode();
+        assertNotEquals(first, second);
+
+        argument.set(0, "b");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testHashCodeHoverNotCached() {
+        Translation translation = mock(Translation.class);
+        List<String> argument = new ArrayList<>(Arrays.asList("a"));
+        Text first = Text.builder("Hover").onHover(TextActions.showText(Text.of(translation, argument))).build();
+        Text second = Text.builder("Hover").onHover(TextActions.showText(Text.of(translation, new ArrayList<>(Arrays.asList("b"))))).build();
+        first.hashCode();
+        second.hashCode();
+        assertNotEquals(first, second);
+
+        argument.set(0, "b");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testSortByPlain() {
+        List<Text> texts = new ArrayList<>();
+        for (int i = 999; i >= 0; i--) {
+            texts.add(Text.builder(String.format("%03d", i)).append(Text.of(" line")).build());
+        }
+        Collections.shuffle(texts);
+        Collections.sort(texts);
+        for (int i = 0; i < texts.size(); i++) {
+            assertEquals(String.format("%03d line", i), texts.get(i).toPlain());
+        }
+    }
+
+    @Test
+    public void testWithChildren() {
+        Text text = Text.builder("a")
+                .append(Text.builder("b").append(Text.of("c"), Text.of("d")).build())
+                .append(Text.of("e"))
+                .build();
+        List<String> contents = new ArrayList<>();
+        for (Text child : text.withChildren()) {
+            contents.add(((LiteralText) child).getContent());
+        }
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), contents);
+    }
+
+    @Test
+    public void testVisit() {
+        TextStyle bold = new TextStyle(true, null, null, null, null);
+        Text text = Text.builder("a")
+                .append(Text.builder("b").style(bold).append(Text.of("c")).build())
+                .append(Text.of("d"))
+                .build();
+        List<String> events = new ArrayList<>();
+        text.visit(new TextVisitor() {
+
+            @Override
+            public boolean enter(Text text, TextFormat format) {
+                events.add("+" + ((LiteralText) text).getContent() + (format.getStyle().contains(bold) ? "*" : ""));
+                return true;
+            }
+
+            @Override
+            public void leave(Text text, TextFormat format) {
+                events.add("-" + ((LiteralText) text).getContent());
+            }
+
+        });
+        assertEquals(Arrays.asList("+a", "+b*", "+c*", "-c", "-b", "+d", "-d", "-a"), events);
+    }
+
+    @Test
+    public void testVisitSkipChildren() {
+        Text text = Text.builder("a")
+                .append(Text.builder("b").append(Text.of("c")).build())
+                .append(Text.of("d"))
+                .build();
+        List<String> entered = new ArrayList<>();
+        text.visit((child, format) -> {
+            String content = ((LiteralText) child).getContent();
+            entered.add(content);
+            return !content.equals("b");
+        });
+        assertEquals(Arrays.asList("a", "b", "d"), entered);
+    }
+
+    @Test
+    public void testVisitDeep() {
+        Text text = Text.of("x");
+        for (int i = 0; i < 10000; i++) {
+            text = Text.builder("x").append(text).build();
+        }
+        int[] count = new int[1];
+        text.visit((child, format) -> {
+            count[0]++;
+            return true;
+        });
+        assertEquals(10001, count[0]);
+        assertEquals(10001, Iterables.size(text.withChildren()));
+    }
+
+}
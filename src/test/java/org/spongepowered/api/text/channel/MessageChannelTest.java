@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    private static final class TestReceiver implements MessageReceiver {
+
+        final boolean staff;
+        final List<Text> messages = new ArrayList<>();
+
+        TestReceiver(boolean staff) {
+            this.staff = staff;
+        }
+
+        @Override
+        public void sendMessage(Text message) {
+            this.messages.add(message);
+        }
+
+        @Override
+        public MessageChannel getMessageChannel() {
+            return MessageChannel.TO_NONE;
+        }
+
+        @Override
+        public void setMessageChannel(MessageChannel channel) {
+        }
+    }
+
+    private static List<TestReceiver> receivers(int count) {
+        List<TestReceiver> receivers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            receivers.add(new TestReceiver(i % 10 == 0));
+        }
+        return receivers;
+    }
+
+    private static MessageChannel staffChannel(List<TestReceiver> receivers) {
+        return new MessageChannel() {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original) {
+                // A fresh but equal text for every staff member
+                return Optional.of(((TestReceiver) recipient).staff ? Text.of("[Staff] ", original) : original);
+            }
+
+            @Override
+            public Collection<MessageReceiver> getMembers() {
+                return ImmutableList.copyOf(receivers);
+            }
+        };
+    }
+
+    @Test
+    public void testTransformMessages() throws Exception {
+        List<TestReceiver> receivers = receivers(500);
+        Text original = Text.of("Hello");
+
+        Map<Text, Collection<MessageReceiver>> batches = staffChannel(receivers).transformMessages(null, original);
+
+        assertEquals(2, batches.size());
+        assertEquals(450, batches.get(original).size());
+        assertEquals(50, batches.get(Text.of("[Staff] ", original)).size());
+    }
+
+    @Test
+    public void testSendWithExecutor() throws Exception {
+        List<TestReceiver> receivers = receivers(500);
+        Text original = Text.of("Hello");
+        List<Runnable> tasks = new ArrayList<>();
+
+        staffChannel(receivers).send(null, original, tasks::add);
+        assertEquals(2, tasks.size());
+        tasks.forEach(Runnable::run);
+
+        Text staffMessage = receivers.get(0).messages.get(0);
+        for (TestReceiver receiver : receivers) {
+            assertEquals(1, receiver.messages.size());
+            assertSame(receiver.staff ? staffMessage : original, receiver.messages.get(0));
+        }
+    }
+}
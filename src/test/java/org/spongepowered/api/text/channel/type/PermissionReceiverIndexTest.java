@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.command.CommandSource;
+
+import java.util.Optional;
+
+public class PermissionReceiverIndexTest {
+
+    private static CommandSource source(String... permissions) {
+        CommandSource source = mock(CommandSource.class);
+        when(source.getCommandSource()).thenReturn(Optional.of(source));
+        for (String permission : permissions) {
+            when(source.hasPermission(permission)).thenReturn(true);
+        }
+        return source;
+    }
+
+    @Test
+    public void testMembership() throws Exception {
+        CommandSource staff = source("chat.staff");
+        CommandSource player = source();
+        PermissionReceiverIndex index = new PermissionReceiverIndex();
+        index.addSubject(staff);
+        index.addSubject(player);
+
+        assertEquals(ImmutableSet.of(staff), index.getMembers("chat.staff"));
+
+        CommandSource admin = source("chat.staff");
+        index.addSubject(admin);
+        assertEquals(ImmutableSet.of(staff, admin), index.getMembers("chat.staff"));
+
+        index.removeSubject(staff);
+        assertEquals(ImmutableSet.of(admin), index.getMembers("chat.staff"));
+    }
+
+    @Test
+    public void testUpdate() throws Exception {
+        CommandSource player = source();
+        PermissionReceiverIndex index = new PermissionReceiverIndex();
+        index.addSubject(player);
+        assertEquals(ImmutableSet.of(), index.getMembers("chat.staff"));
+
+        when(player.hasPermission("chat.staff")).thenReturn(true);
+        index.update(player);
+        assertEquals(ImmutableSet.of(player), index.getMembers("chat.staff"));
+
+        when(player.hasPermission("chat.staff")).thenReturn(false);
+        index.updateAll();
+        assertEquals(ImmutableSet.of(), index.getMembers("chat.staff"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.util.OptBool;
+
+public class TextStyleTest {
+
+    private static final TextStyle BOLD = TextStyle.of(true, null, null, null, null);
+    private static final TextStyle NOT_ITALIC = TextStyle.of(null, false, null, null, null);
+
+    @Test
+    public void testCanonical() {
+        assertSame(BOLD, TextStyle.of(true, null, null, null, null));
+        assertSame(TextStyles.NONE, TextStyle.of(null, null, null, null, null));
+        assertSame(BOLD, TextStyles.NONE.bold(true));
+        assertSame(BOLD, BOLD.italic(false).italic(null));
+
+        TextStyle constructed = new TextStyle(true, null, null, null, null);
+        assertNotSame(BOLD, constructed);
+        assertEquals(BOLD, constructed);
+        assertEquals(BOLD.hashCode(), constructed.hashCode());
+    }
+
+    @Test
+    public void testProperties() {
+        TextStyle style = TextStyle.of(true, false, null, true, null);
+        assertEquals(OptBool.TRUE, style.isBold());
+        assertEquals(OptBool.FALSE, style.isItalic());
+        assertEquals(OptBool.ABSENT, style.hasUnderline());
+        assertEquals(OptBool.TRUE, style.hasStrikethrough());
+        assertEquals(OptBool.ABSENT, style.isObfuscated());
+        assertFalse(style.isEmpty());
+        assertTrue(TextStyles.NONE.isEmpty());
+    }
+
+    @Test
+    public void testCompose() {
+        assertSame(TextStyle.of(true, false, null, null, null), BOLD.and(NOT_ITALIC));
+        assertSame(TextStyle.of(true, true, null, null, null), BOLD.andNot(NOT_ITALIC));
+        // Conflicting properties become absent
+        assertSame(TextStyle.of(null, false, null, null, null), BOLD.and(NOT_ITALIC, BOLD.negate()));
+        assertSame(BOLD, TextStyles.NONE.and(BOLD));
+    }
+
+    @Test
+    public void testNegate() {
+        TextStyle style = TextStyle.of(true, false, null, null, true);
+        assertSame(TextStyle.of(false, true, null, null, false), style.negate());
+        assertSame(TextStyles.NONE, TextStyles.NONE.negate());
+    }
+
+    @Test
+    public void testContains() {
+        TextStyle style = TextStyle.of(true, false, null, null, null);
+        assertTrue(style.contains(BOLD, NOT_ITALIC));
+        assertFalse(style.contains(BOLD.negate()));
+        assertFalse(BOLD.contains(style));
+        assertTrue(BOLD.contains(TextStyles.NONE));
+    }
+
+    @Test
+    public void testFormatCanonical() {
+        TextColor color = mock(TextColor.class);
+        TextFormat format = TextFormat.NONE.color(color).style(BOLD);
+        assertSame(format, TextFormat.NONE.style(BOLD).color(color));
+        assertSame(format, TextFormat.NONE.color(color).merge(TextFormat.NONE.style(BOLD)));
+        assertSame(TextFormat.NONE, TextFormat.NONE.style(BOLD).style(TextStyles.NONE));
+
+        TextFormat constructed = TextFormat.NONE.color(color).style(new TextStyle(true, null, null, null, null));
+        assertNotSame(format, constructed);
+        assertEquals(format, constructed);
+    }
+
+}
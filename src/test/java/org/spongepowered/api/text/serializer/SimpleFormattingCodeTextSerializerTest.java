@@ -0,0 +1,138 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class SimpleFormattingCodeTextSerializerTest {
+
+    private static final TextStyle BOLD = new TextStyle(true, null, null, null, null);
+
+    private final SimpleFormattingCodeTextSerializer serializer = new SimpleFormattingCodeTextSerializer('&');
+
+    @BeforeClass
+    public static void initColors() throws ReflectiveOperationException {
+        TestHooks.initialize();
+        for (String name : Arrays.asList("BLACK", "DARK_BLUE", "DARK_GREEN", "DARK_AQUA", "DARK_RED", "DARK_PURPLE", "GOLD",
+                "GRAY", "DARK_GRAY", "BLUE", "GREEN", "AQUA", "RED", "LIGHT_PURPLE", "YELLOW", "WHITE", "RESET")) {
+            if (TextColors.class.getField(name).get(null) == null) {
+                TestHooks.setStaticFinalField(TextColors.class.getField(name), mock(TextColor.class));
+            }
+        }
+    }
+
+    @Test
+    public void testSerialize() {
+        Text text = Text.builder("Hello ").color(TextColors.RED)
+                .append(Text.builder("Sponge").style(BOLD).build())
+                .append(Text.builder("!").color(TextColors.YELLOW).build())
+                .build();
+        assertEquals("&cHello &lSponge&e!", this.serializer.serialize(text));
+    }
+
+    @Test
+    public void testSerializeRemovedStyle() {
+        Text text = Text.builder()
+                .append(Text.builder("a").style(BOLD).build())
+                .append(Text.of("b"))
+                .build();
+        assertEquals("&la&rb", this.serializer.serialize(text));
+    }
+
+    @Test
+    public void testSerializeAppendable() throws IOException {
+        Text text = Text.builder("Hello").color(TextColors.GREEN).build();
+        StringBuilder builder = new StringBuilder("> ");
+        this.serializer.serialize(text, builder);
+        assertEquals("> &aHello", builder.toString());
+    }
+
+    @Test
+    public void testSerializeByteBuffer() {
+        Text text = Text.builder("Grüße ☃ 😀").color(TextColors.GOLD).build();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        this.serializer.serialize(text, buffer);
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals("&6Grüße ☃ 😀".getBytes(StandardCharsets.UTF_8), bytes);
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testSerializeByteBufferOverflow() {
+        this.serializer.serialize(Text.of("Hello world"), ByteBuffer.allocate(4));
+    }
+
+    @Test
+    public void testDeserialize() {
+        Text expected = Text.builder()
+                .append(Text.builder("Hello ").color(TextColors.RED).build())
+                .append(Text.builder("Sponge").color(TextColors.RED).style(BOLD).build())
+                .append(Text.builder("!").color(TextColors.YELLOW).build())
+                .build();
+        assertEquals(expected, this.serializer.deserialize(new StringBuilder("&cHello &lSponge&e!")));
+    }
+
+    @Test
+    public void testDeserializeUnknownCodes() {
+        assertEquals(Text.of("&zHello &"), this.serializer.deserialize("&zHello &"));
+    }
+
+    @Test
+    public void testDeserializeReader() throws IOException {
+        assertEquals(Text.builder("Hello").color(TextColors.AQUA).build(),
+                this.serializer.deserialize(new StringReader("&bHello")));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        String input = "&cHello &lSponge&e!";
+        assertEquals(input, this.serializer.serialize(this.serializer.deserialize(input)));
+    }
+
+    @Test
+    public void testStripAndReplaceCodes() {
+        assertEquals("Hello Sponge &z!", this.serializer.stripCodes("&cHello &L&oSponge &z!"));
+        assertEquals("§cHello §LSponge &z!", this.serializer.replaceCodes("&cHello &LSponge &z!", '§'));
+    }
+
+}
@@ -40,6 +40,7 @@
 import org.spongepowered.api.util.annotation.TransformWith;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -395,6 +396,60 @@ public void testCreate_UnrequiredPrimitives() {
         assertThat(generated.getBooleanValue(), is(false));
     }
 
+    @Test
+    public void testCreatePositional_Primitives() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        @SuppressWarnings("unchecked")
+        PositionalEventFactory<PrimitiveContainer> positional = (PositionalEventFactory<PrimitiveContainer>) factory;
+
+        assertThat(positional.getParameterNames(),
+                is(equalTo(Arrays.asList("boolean", "byte", "char", "double", "float", "int", "long", "short"))));
+
+        PrimitiveContainer result = positional.create(true, (byte) 10, (char) 17, 15.5, (float) 14.5, 12, 13L, (short) 11);
+
+        assertThat(result.getByte(), is((byte) 10));
+        assertThat(result.getShort(), is((short) 11));
+        assertThat(result.getInt(), is(12));
+        assertThat(result.getLong(), is(13L));
+        assertThat((double) result.getFloat(), is(closeTo(14.5, ERROR)));
+        assertThat(result.getDouble(), is(closeTo(15.5, ERROR)));
+        assertThat(result.getBoolean(), is(true));
+        assertThat(result.getChar(), is((char) 17));
+    }
+
+    @Test
+    public void testCreatePositional_AbstractImpl() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<AbstractImplContainer> factory = provider.create(AbstractImplContainer.class, AbstractImpl.class, SpongeEventFactoryUtils.plugins);
+        @SuppressWarnings("unchecked")
+        PositionalEventFactory<AbstractImplContainer> positional = (PositionalEventFactory<AbstractImplContainer>) factory;
+
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("age", 56);
+        AbstractImplContainer mapped = factory.apply(values);
+        AbstractImplContainer result = positional.create(56, null);
+
+        assertThat(result.getName(), is(equalTo(mapped.getName())));
+        assertThat(result.getAge(), is(mapped.getAge()));
+        assertThat(((AbstractImpl) result).isCool(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreatePositional_MissingParameters() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        ((PositionalEventFactory<?>) factory).create(true, (byte) 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCreatePositional_NullWithNonNull() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        EventFactory<AbstractImplContainer> factory = provider.create(AbstractImplContainer.class, AbstractImpl.class, SpongeEventFactoryUtils.plugins);
+        ((PositionalEventFactory<?>) factory).create(56, null);
+    }
+
     public interface OptionalGetter {
 
         Optional<String> getName();
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.spongepowered.api.event.Reusable;
+import org.spongepowered.api.event.SpongeEventFactoryUtils;
+import org.spongepowered.api.event.action.CollideEvent;
+
+import javax.annotation.Nullable;
+
+public class EventPoolTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> EventFactory<T> createFactory(Class<T> type) {
+        ClassGeneratorProvider provider = new ClassGeneratorProvider("org.spongepowered.test");
+        return provider.create(type, Object.class, SpongeEventFactoryUtils.plugins);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventPool<ReusableContainer> createPool() {
+        return new EventPool<>((ResettableEventFactory<ReusableContainer>) createFactory(ReusableContainer.class));
+    }
+
+    @Test
+    public void testResettableFactory() {
+        assertThat(createFactory(ReusableContainer.class), is(instanceOf(ResettableEventFactory.class)));
+        assertThat(createFactory(ChildContainer.class), is(instanceOf(ResettableEventFactory.class)));
+        assertThat(createFactory(PlainContainer.class), is(not(instanceOf(ResettableEventFactory.class))));
+    }
+
+    @Test
+    public void testReuse() {
+        EventPool<ReusableContainer> pool = createPool();
+
+        ReusableContainer first = pool.acquire(5, "Foo");
+        assertThat(first.getCount(), is(5));
+        assertThat(first.getName(), is(equalTo("Foo")));
+        first.setCount(6);
+        pool.release(first);
+
+        ReusableContainer second = pool.acquire(7, null);
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.getCount(), is(7));
+        assertThat(second.getName(), is(nullValue()));
+    }
+
+    @Test
+    public void testNestedAcquire() {
+        EventPool<ReusableContainer> pool = createPool();
+
+        ReusableContainer outer = pool.acquire(1, "Outer");
+        ReusableContainer inner = pool.acquire(2, "Inner");
+        assertThat(inner, is(not(sameInstance(outer))));
+        assertThat(outer.getCount(), is(1));
+        pool.release(inner);
+        pool.release(outer);
+
+        assertThat(pool.acquire(3, null), is(sameInstance(outer)));
+        assertThat(pool.acquire(4, null), is(sameInstance(inner)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleaseTwice() {
+        EventPool<ReusableContainer> pool = createPool();
+        ReusableContainer event = pool.acquire(1, "Foo");
+        pool.release(event);
+        pool.release(event);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResetMissingParameters() {
+        EventPool<ReusableContainer> pool = createPool();
+        pool.release(pool.acquire(1, "Foo"));
+        pool.acquire(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateEventPoolNotReusable() {
+        SpongeEventFactoryUtils.createEventPool(CollideEvent.class);
+    }
+
+    @Reusable
+    public interface ReusableContainer {
+
+        int getCount();
+
+        void setCount(int count);
+
+        @Nullable
+        String getName();
+    }
+
+    public interface ChildContainer extends ReusableContainer {
+
+    }
+
+    public interface PlainContainer {
+
+        int getCount();
+    }
+
+}
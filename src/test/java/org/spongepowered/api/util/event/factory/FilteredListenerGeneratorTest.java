@@ -0,0 +1,216 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class FilteredListenerGeneratorTest {
+
+    private EventListener<Event> compile(Object listener, String name) throws Exception {
+        for (Method method : listener.getClass().getMethods()) {
+            if (method.getName().equals(name)) {
+                return new FilteredListenerGenerator("org.spongepowered.test").compile(listener, method);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    @Test
+    public void testFirst() throws Exception {
+        TestListener listener = new TestListener();
+        EventListener<Event> compiled = compile(listener, "onFirst");
+
+        compiled.handle(new TestEvent(Cause.of(1, "foo", "bar")));
+        compiled.handle(new TestEvent(Cause.of(1, 2)));
+
+        assertEquals(1, listener.calls.size());
+        assertArrayEquals(new Object[] {"foo"}, listener.calls.get(0));
+    }
+
+    @Test
+    public void testTypeFilter() throws Exception {
+        TestListener listener = new TestListener();
+        EventListener<Event> compiled = compile(listener, "onRootNotInteger");
+
+        compiled.handle(new TestEvent(Cause.of(1, "foo")));
+        compiled.handle(new TestEvent(Cause.of(2.0, "foo")));
+
+        assertEquals(1, listener.calls.size());
+        assertArrayEquals(new Object[] {2.0}, listener.calls.get(0));
+    }
+
+    @Test
+    public void testBeforeAndAll() throws Exception {
+        TestListener listener = new TestListener();
+        EventListener<Event> compiled = compile(listener, "onBeforeAndAll");
+
+        compiled.handle(new TestEvent(Cause.of("foo", 1, 2)));
+        compiled.handle(new TestEvent(Cause.of(1, 2)));
+        compiled.handle(new TestEvent(Cause.of("foo", "bar")));
+
+        assertEquals(1, listener.calls.size());
+        assertEquals("foo", listener.calls.get(0)[0]);
+        assertArrayEquals(new Integer[] {1, 2}, (Integer[]) listener.calls.get(0)[1]);
+    }
+
+    @Test
+    public void testCancellation() throws Exception {
+        TestListener listener = new TestListener();
+        EventListener<Event> compiledDefault = compile(listener, "onFirst");
+        EventListener<Event> compiledAny = compile(listener, "onAnyCancellation");
+
+        TestEvent event = new TestEvent(Cause.of("foo"));
+        event.setCancelled(true);
+        compiledDefault.handle(event);
+        compiledAny.handle(event);
+
+        assertEquals(1, listener.calls.size());
+        assertArrayEquals(new Object[0], listener.calls.get(0));
+    }
+
+    @Test
+    public void testInclude() throws Exception {
+        TestListener listener = new TestListener();
+        EventListener<Event> compiled = compile(listener, "onIncluded");
+
+        compiled.handle(new TestEvent(Cause.of("foo")));
+        compiled.handle(new SubTestEvent(Cause.of("foo")));
+
+        assertEquals(1, listener.calls.size());
+    }
+
+    @Test
+    public void testHas() throws Exception {
+        DataHolder named = mock(DataHolder.class);
+        when(named.get(DisplayNameData.class)).thenReturn(Optional.of(mock(DisplayNameData.class)));
+        DataHolder unnamed = mock(DataHolder.class);
+        when(unnamed.get(Matchers.<Class<DisplayNameData>>any())).thenReturn(Optional.empty());
+        TestListener listener = new TestListener();
+        EventListener<Event> compiled = compile(listener, "onHas");
+
+        compiled.handle(new TestEvent(Cause.of(unnamed)));
+        compiled.handle(new TestEvent(Cause.of(named)));
+
+        assertEquals(1, listener.calls.size());
+        assertArrayEquals(new Object[] {named}, listener.calls.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingCauseAnnotation() throws Exception {
+        compile(new TestListener(), "onMissingAnnotation");
+    }
+
+    public static class TestListener {
+
+        final List<Object[]> calls = new ArrayList<>();
+
+        public void onFirst(TestEvent event, @First String value) {
+            this.calls.add(new Object[] {value});
+        }
+
+        public void onRootNotInteger(TestEvent event, @Root(typeFilter = Integer.class, inverse = true) Number value) {
+            this.calls.add(new Object[] {value});
+        }
+
+        public void onBeforeAndAll(TestEvent event, @Before(Integer.class) String value, @All Integer[] values) {
+            this.calls.add(new Object[] {value, values});
+        }
+
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onAnyCancellation(TestEvent event) {
+            this.calls.add(new Object[0]);
+        }
+
+        @Include(SubTestEvent.class)
+        public void onIncluded(TestEvent event) {
+            this.calls.add(new Object[0]);
+        }
+
+        public void onHas(TestEvent event, @First @Has(DisplayNameData.class) DataHolder holder) {
+            this.calls.add(new Object[] {holder});
+        }
+
+        public void onMissingAnnotation(TestEvent event, String value) {
+            this.calls.add(new Object[] {value});
+        }
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class SubTestEvent extends TestEvent {
+
+        SubTestEvent(Cause cause) {
+            super(cause);
+        }
+    }
+}